@@ -0,0 +1,75 @@
+package com.fdx.backend.security;
+
+import com.fdx.backend.domain.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JWT 인증 비용 측정 (검증된 토큰 캐시 사용 / 미사용)
+ *
+ * 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "dGhpc2lzYXZlcnlsb25nc2VjcmV0a2V5Zm9yand0dG9rZW5nZW5lcmF0aW9uMTIzNDU2Nzg5MA==";
+
+    private JwtTokenProvider uncached;
+    private JwtTokenProvider cached;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        uncached = provider(0);
+        cached = provider(10_000);
+        bearerToken = "Bearer " + uncached.createToken(1L, "user@example.com", "USER");
+    }
+
+    @Benchmark
+    public Authentication withoutCache() {
+        return uncached.getAuthentication(uncached.resolveToken(bearerToken));
+    }
+
+    @Benchmark
+    public Authentication withCache() {
+        return cached.getAuthentication(cached.resolveToken(bearerToken));
+    }
+
+    private static JwtTokenProvider provider(long cacheMaxSize) throws Exception {
+        JwtTokenProvider provider = new JwtTokenProvider(activeUsers(), new SimpleMeterRegistry());
+        setField(provider, "secretKey", SECRET);
+        setField(provider, "validityInMilliseconds", 86_400_000L);
+        setField(provider, "cacheMaxSize", cacheMaxSize);
+        setField(provider, "revalidateAfter", Duration.ofMinutes(5));
+        provider.init();
+        return provider;
+    }
+
+    /**
+     * 캐시에 넣기 전 탈퇴 확인(existsById)만 응답하는 스텁 (항상 활성 사용자)
+     * DB 왕복은 포함되지 않음 → 캐시 미사용 시 실제로는 요청마다 SELECT 1번이 더해짐
+     */
+    private static UserRepository activeUsers() {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("existsById")) {
+                        return true;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
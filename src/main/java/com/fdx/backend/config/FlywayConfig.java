@@ -0,0 +1,49 @@
+package com.fdx.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 스키마 마이그레이션 설정 (Flyway, src/main/resources/db/migration/{h2,mysql})
+ *
+ * 테이블/인덱스 변경은 V{번호}__설명.sql 스크립트로만 하고, Hibernate는 엔티티와 스키마가 맞는지 검증만 함 (ddl-auto: validate)
+ * - 기본값은 spring.flyway.clean-disabled: true → 아직 적용되지 않은 버전만 적용
+ * - 프로파일 없이 띄우는 개발용 인메모리 H2만 clean을 허용(application.yaml의 default 프로파일)해서
+ *   시작할 때마다 비우고 처음부터 적용 → 이전 ddl-auto: create-drop처럼 매번 새 스키마 + data.sql
+ *   (같은 JVM의 테스트 컨텍스트들이 같은 인메모리 DB를 공유하므로 필요)
+ * - clean이 허용돼도 인메모리 H2가 아니면 비우지 않음 (설정 실수로 운영 DB를 지우지 않도록)
+ */
+@Configuration
+@Slf4j
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+            if (!flyway.getConfiguration().isCleanDisabled()) {
+                if (isInMemoryH2(flyway.getConfiguration().getDataSource())) {
+                    flyway.clean();
+                } else {
+                    log.warn("인메모리 H2가 아니므로 clean-disabled: false 설정을 무시하고 마이그레이션만 적용합니다");
+                }
+            }
+            flyway.migrate();
+        };
+    }
+
+    private static boolean isInMemoryH2(DataSource dataSource) {
+        try {
+            String url = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getURL);
+            return url != null && url.startsWith("jdbc:h2:mem:");
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.fdx.backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine, 프로세스 내 캐시)
+ *
+ * 거의 바뀌지 않는 참조 데이터(WIG, Lead Measure)와 WIG별 Lead Measure 목록 쿼리만 캐시
+ * - region마다 최대 개수와 TTL 지정, 설정하지 않은 region은 시작 시 실패 (missing_cache_strategy: fail)
+ * - JPA로 쓰면 Hibernate가 엔티티/쿼리 캐시를 자동 무효화
+ *   → wigs, lead_measures 테이블을 JdbcTemplate으로 직접 수정하면 안 됨 (하려면 Cache.evict 필요)
+ * - 적중률은 hibernate.second.level.cache.requests / hibernate.cache.query.requests 메트릭으로 노출
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String WIG_REGION = "wig";
+    public static final String LEAD_MEASURE_REGION = "leadMeasure";
+    public static final String LEAD_MEASURES_BY_WIG_REGION = "leadMeasuresByWig";
+
+    // Hibernate 기본 region 이름
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        // 전역 Caching 레지스트리를 쓰지 않고 provider를 직접 만들어서 컨텍스트마다 독립된 CacheManager 사용
+        CacheManager cacheManager = new CaffeineCachingProvider()
+                .getCacheManager(URI.create("fdx-hibernate"), getClass().getClassLoader());
+
+        createCache(cacheManager, WIG_REGION, 10_000, Duration.ofHours(1));
+        createCache(cacheManager, LEAD_MEASURE_REGION, 50_000, Duration.ofHours(1));
+        createCache(cacheManager, LEAD_MEASURES_BY_WIG_REGION, 10_000, Duration.ofMinutes(30));
+        createCache(cacheManager, QUERY_RESULTS_REGION, 1_000, Duration.ofMinutes(10));
+        // 테이블별 마지막 갱신 시각: 제거/만료되면 쿼리 캐시가 오래된 결과를 돌려줄 수 있으므로 제한 없음 (테이블 수만큼만 쌓임)
+        createCache(cacheManager, UPDATE_TIMESTAMPS_REGION, null, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, Integer maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maximumSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
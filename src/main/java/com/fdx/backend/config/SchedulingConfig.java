@@ -0,0 +1,12 @@
+package com.fdx.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 활성화 (tombstone 정리, 삭제 데이터 정리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
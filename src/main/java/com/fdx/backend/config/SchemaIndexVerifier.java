@@ -0,0 +1,114 @@
+package com.fdx.backend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 시작 시 엔티티에 선언된 인덱스가 DB에 실제로 있는지 확인 (하나라도 없으면 시작 실패)
+ *
+ * ddl-auto: validate는 테이블/컬럼만 검사하고 인덱스는 보지 않으므로,
+ * @Table(indexes, uniqueConstraints)에 적은 인덱스를 마이그레이션에서 빠뜨리면 여기서 잡음
+ * - 이름이 아니라 컬럼 구성으로 비교 (unique 제약 인덱스 이름은 DB마다 다름)
+ * - 선언한 컬럼들로 시작하는 인덱스가 있으면 통과 (더 넓은 인덱스로 대체한 경우)
+ *
+ * EntityManagerFactory를 주입받으므로 Flyway 마이그레이션이 끝난 뒤에 실행됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaIndexVerifier implements InitializingBean {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() throws MetaDataAccessException {
+        Map<String, List<List<String>>> expected = expectedIndexes();
+
+        List<String> missing = JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> {
+            List<String> result = new ArrayList<>();
+            for (Map.Entry<String, List<List<String>>> entry : expected.entrySet()) {
+                Collection<List<String>> actual = actualIndexes(metaData, entry.getKey());
+                for (List<String> columns : entry.getValue()) {
+                    if (actual.stream().noneMatch(index -> startsWith(index, columns))) {
+                        result.add(entry.getKey() + " " + columns);
+                    }
+                }
+            }
+            return result;
+        });
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("DB에 없는 인덱스가 있습니다 (마이그레이션 확인 필요): " + missing);
+        }
+        log.info("인덱스 확인 완료: 테이블 {}개, 인덱스 {}개", expected.size(),
+                expected.values().stream().mapToInt(List::size).sum());
+    }
+
+    /**
+     * 엔티티 @Table에 선언된 인덱스 / unique 제약 (테이블 → 컬럼 목록들)
+     */
+    private Map<String, List<List<String>>> expectedIndexes() {
+        Map<String, List<List<String>>> expected = new TreeMap<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Table table = entity.getJavaType().getAnnotation(Table.class);
+            if (table == null) {
+                continue;
+            }
+            List<List<String>> indexes = new ArrayList<>();
+            for (Index index : table.indexes()) {
+                indexes.add(Arrays.stream(index.columnList().split(","))
+                        .map(column -> column.trim().split("\\s+")[0].toLowerCase()) // "col DESC" → col
+                        .toList());
+            }
+            for (UniqueConstraint constraint : table.uniqueConstraints()) {
+                indexes.add(Arrays.stream(constraint.columnNames()).map(String::toLowerCase).toList());
+            }
+            if (!indexes.isEmpty()) {
+                expected.put(table.name(), indexes);
+            }
+        }
+        return expected;
+    }
+
+    /**
+     * DB에 있는 테이블의 인덱스별 컬럼 목록 (순서대로)
+     */
+    private Collection<List<String>> actualIndexes(DatabaseMetaData metaData, String table) throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+        Map<String, SortedMap<Short, String>> columnsByIndex = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(metaData.getConnection().getCatalog(),
+                metaData.getConnection().getSchema(), tableName, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName != null && column != null) {
+                    columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase());
+                }
+            }
+        }
+        return columnsByIndex.values().stream()
+                .map(columns -> (List<String>) new ArrayList<>(columns.values()))
+                .toList();
+    }
+
+    private static boolean startsWith(List<String> index, List<String> columns) {
+        return index.size() >= columns.size() && index.subList(0, columns.size()).equals(columns);
+    }
+}
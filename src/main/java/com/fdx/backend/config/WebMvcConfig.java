@@ -0,0 +1,24 @@
+package com.fdx.backend.config;
+
+import com.fdx.backend.domain.wig.WigOwnershipInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final WigOwnershipInterceptor wigOwnershipInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // WIG 하위 리소스는 모두 소유자만 접근 가능
+        registry.addInterceptor(wigOwnershipInterceptor)
+                .addPathPatterns("/api/wigs/*/**");
+    }
+}
@@ -0,0 +1,24 @@
+package com.fdx.backend.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+/**
+ * ISO 8601 주차 키 (주 기준 연도 * 100 + 주차, 예: 2025-01-06이 속한 주 = 202502)
+ *
+ * 정수라서 정렬/범위 조회 순서가 곧 시간 순서 ("W10"이 "W2"보다 앞서는 문자열 정렬 문제 없음)
+ * - 주는 월요일 시작, 1주차는 그 해 첫 목요일이 있는 주 (12월 말/1월 초는 이웃 연도의 주차일 수 있음)
+ * - 마이그레이션 백필의 MySQL YEARWEEK(date, 3), H2 ISO_YEAR(date) * 100 + ISO_WEEK(date)와 같은 값
+ */
+public final class IsoWeek {
+
+    private IsoWeek() {
+    }
+
+    /**
+     * 날짜가 속한 주의 키
+     */
+    public static int keyOf(LocalDate date) {
+        return date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fdx.backend.domain;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조회 응답의 버전 (조건부 GET의 ETag 계산용)
+ *
+ * 전체 데이터를 읽지 않고 COUNT(*) + MAX(updated_at) 집계 한 번으로 구함
+ * - 생성/수정: 해당 행의 updatedAt이 현재 시각이 되므로 MAX가 바뀜
+ * - 삭제: COUNT가 줄어듦
+ *
+ * 삭제는 MAX(updated_at)를 바꾸지 않으므로 Last-Modified / If-Modified-Since 검증에는 쓰지 않음
+ * (ETag 없이 If-Modified-Since만 보내는 클라이언트가 삭제를 놓치게 됨)
+ *
+ * @param count        행 개수
+ * @param lastModified 가장 최근 updatedAt (행이 없으면 null)
+ */
+public record ResourceVersion(Long count, LocalDateTime lastModified) {
+
+    /**
+     * 여러 테이블로 만들어지는 응답의 버전 (예: WIG 목록 = WIG + Lead Measure + Milestone)
+     * 개수는 합, 수정 시각은 최댓값 → 어느 한쪽이 바뀌어도 버전이 바뀜
+     */
+    public ResourceVersion and(ResourceVersion other) {
+        return new ResourceVersion(count + other.count, latest(lastModified, other.lastModified));
+    }
+
+    /**
+     * 강한 ETag ("개수-마이크로초")
+     */
+    public String etag() {
+        return "\"" + count + "-" + epochMicros() + "\"";
+    }
+
+    /**
+     * 조회 시점에 따라 달라지는 응답용 ETag (예: 오늘 기준 streak)
+     */
+    public String etag(Object variant) {
+        return "\"" + count + "-" + epochMicros() + "-" + variant + "\"";
+    }
+
+    private long epochMicros() {
+        return lastModified != null
+                ? ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), lastModified)
+                : 0;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+}
@@ -3,6 +3,7 @@ package com.fdx.backend.domain.commitment;
 import com.fdx.backend.domain.wig.Wig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -20,7 +21,12 @@ import java.time.LocalDateTime;
  * - "코딩테스트 3문제 풀기"
  */
 @Entity
-@Table(name = "commitments") // 매핑될 테이블명
+@Table(name = "commitments", // 매핑될 테이블명
+        indexes = {
+                @Index(name = "idx_commitments_wig_updated", columnList = "wig_id, updated_at"),
+                @Index(name = "idx_commitments_wig_week_completed", columnList = "wig_id, week, completed"), // 주차별 조회/달성 개수
+                @Index(name = "idx_commitments_wig_week_key", columnList = "wig_id, week_key") // 주차 순서/범위 조회
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,6 +51,13 @@ public class Commitment {
     @Column(nullable = false, length = 10)
     private String week;
 
+    /**
+     * ISO 주차 키 (IsoWeek, 정렬/범위 조회용)
+     * 요청의 date로 계산하고, 없으면 같은 주차 라벨의 일간 데이터 날짜 기준
+     * 둘 다 없으면 null, 나중에 그 라벨의 일간 데이터가 저장되면 WeekKeyBackfiller가 채움
+     */
+    private Integer weekKey;
+
     /**
      * 완료 여부
      */
@@ -69,11 +82,13 @@ public class Commitment {
 
     /**
      * 편의 메서드: 이 Commitment의 WIG 설정
-     * 양방향 관계 동기화
+     * 양방향 관계 동기화 (WIG의 Commitments 컬렉션이 이미 로드된 경우만)
+     * → 로드되지 않은 컬렉션을 contains() 때문에 통째로 읽지 않음, DB 반영은 FK(wig_id)만으로 충분
      */
     public void setWig(Wig wig) {
         this.wig = wig;
-        if (wig != null && !wig.getCommitments().contains(this)) {
+        if (wig != null && Hibernate.isInitialized(wig) && Hibernate.isInitialized(wig.getCommitments())
+                && !wig.getCommitments().contains(this)) {
             wig.getCommitments().add(this);
         }
 
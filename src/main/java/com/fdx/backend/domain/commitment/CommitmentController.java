@@ -1,14 +1,19 @@
 package com.fdx.backend.domain.commitment;
 
+import com.fdx.backend.domain.ResourceVersion;
 import com.fdx.backend.dto.CommitmentRequest;
 import com.fdx.backend.dto.CommitmentResponse;
+import com.fdx.backend.dto.CompletionRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,13 +22,16 @@ import java.util.Map;
  * Commitment REST API Controller
  *
  * API 엔드포인트:
- * GET    /api/wigs/{wigId}/commitments                - 특정 WIG의 모든 Commitments 조회
+ * GET    /api/wigs/{wigId}/commitments                - 특정 WIG의 모든 Commitments 조회 (?from=&to= 기간 지정 가능)
  * GET    /api/wigs/{wigId}/commitments/week/{week}   - 특정 WIG의 특정 주차 Commitments 조회
  * GET    /api/wigs/{wigId}/commitments/week/{week}/rate - 특정 주차 이행률 조회
  * POST   /api/commitments                              - Commitment 생성
  * PUT    /api/commitments/{id}                         - Commitment 수정
  * PATCH  /api/commitments/{id}/toggle                  - Commitment 완료 상태 토글
+ * PUT    /api/wigs/{wigId}/commitments/{id}/completed - Commitment 완료 상태 지정
  * DELETE /api/commitments/{id}                         - Commitment 삭제
+ *
+ * 조회 API는 ETag 조건부 요청 지원 (WIG의 Commitments 버전이 같으면 304)
  */
 @RestController
 @RequiredArgsConstructor
@@ -33,14 +41,22 @@ public class CommitmentController {
     private final CommitmentService commitmentService;
 
     /**
-     * 특정 WIG의 모든 Commitments 조회
+     * 특정 WIG의 Commitments 이력 조회 (주차 순서대로)
      * GET /api/wigs/{wigId}/commitments
+     * GET /api/wigs/{wigId}/commitments?from=2025-01-01&to=2025-03-31 (두 날짜가 속한 주차 범위)
      */
     @GetMapping("/api/wigs/{wigId}/commitments")
     public ResponseEntity<List<CommitmentResponse>> getCommitmentsByWigId(
-            @PathVariable Long wigId) {
-        log.info("GET /api/wigs/{}/commitments - Commitments 조회 요청", wigId);
-        List<CommitmentResponse> commitments = commitmentService.getCommitmentsByWigId(wigId);
+            @PathVariable Long wigId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+        log.info("GET /api/wigs/{}/commitments - Commitments 조회 요청: {} ~ {}", wigId, from, to);
+        ResourceVersion version = commitmentService.getCommitmentsVersion(wigId);
+        if (webRequest.checkNotModified(from == null && to == null ? version.etag() : version.etag(from + "~" + to))) {
+            return null; // 304 Not Modified (엔티티 조회/JSON 직렬화 생략)
+        }
+        List<CommitmentResponse> commitments = commitmentService.getCommitmentsByWigId(wigId, from, to);
         return ResponseEntity.ok(commitments);
     }
 
@@ -51,8 +67,12 @@ public class CommitmentController {
     @GetMapping("/api/wigs/{wigId}/commitments/week/{week}")
     public ResponseEntity<List<CommitmentResponse>> getCommitmentsByWigIdAndWeek(
             @PathVariable Long wigId,
-            @PathVariable String week) {
+            @PathVariable String week,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/commitments/week/{} - 주차별 Commitments 조회 요청", wigId, week);
+        if (webRequest.checkNotModified(commitmentService.getCommitmentsVersion(wigId).etag())) {
+            return null;
+        }
         List<CommitmentResponse> commitments = commitmentService.getCommitmentsByWigIdAndWeek(wigId, week);
         return ResponseEntity.ok(commitments);
     }
@@ -73,8 +93,12 @@ public class CommitmentController {
     @GetMapping("/api/wigs/{wigId}/commitments/week/{week}/rate")
     public ResponseEntity<Map<String,Object>> getCommitmentCompletionRate(
             @PathVariable Long wigId,
-            @PathVariable String week) {
+            @PathVariable String week,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/commitments/week/{}/rate - 이행률 조회 요청", wigId, week);
+        if (webRequest.checkNotModified(commitmentService.getCommitmentsVersion(wigId).etag())) {
+            return null;
+        }
         Map<String, Object> rate = commitmentService.getCommitmentCompletionRate(wigId, week);
         return ResponseEntity.ok(rate);
     }
@@ -118,6 +142,24 @@ public class CommitmentController {
         return ResponseEntity.ok(commitment);
     }
 
+    /**
+     * Commitment 완료 상태 지정
+     * PUT /api/wigs/{wigId}/commitments/{id}/completed
+     *
+     * 요청 예시: { "completed": true }
+     * 토글과 달리 같은 요청을 다시 보내도 결과가 같음 (오프라인 재전송에 사용)
+     */
+    @PutMapping("/api/wigs/{wigId}/commitments/{id}/completed")
+    public ResponseEntity<Void> setCommitmentCompleted(
+            @PathVariable Long wigId,
+            @PathVariable Long id,
+            @Valid @RequestBody CompletionRequest request) {
+        log.info("PUT /api/wigs/{}/commitments/{}/completed - Commitment 완료 상태 지정 요청: {}",
+                wigId, id, request.getCompleted());
+        commitmentService.setCommitmentCompleted(wigId, id, request.getCompleted());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Commitment 삭제
      * DELETE /api/commitments/{id}
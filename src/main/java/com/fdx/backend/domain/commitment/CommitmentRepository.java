@@ -1,9 +1,16 @@
 package com.fdx.backend.domain.commitment;
 
+import com.fdx.backend.domain.ResourceVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Commitment Repository
@@ -12,9 +19,14 @@ import java.util.List;
 public interface CommitmentRepository extends JpaRepository<Commitment, Long> {
 
     /**
-     * 특정 WIG의 모든 Commitments 조회
+     * 특정 WIG의 모든 Commitments 조회 (주차 순서대로, 주차 키가 없는 것이 먼저)
      */
-    List<Commitment> findByWigId(Long wigId);
+    List<Commitment> findByWigIdOrderByWeekKeyAscIdAsc(Long wigId);
+
+    /**
+     * 특정 WIG의 주차 키 범위 Commitments 조회 (wig_id + week_key 인덱스 범위 스캔)
+     */
+    List<Commitment> findByWigIdAndWeekKeyBetweenOrderByWeekKeyAscIdAsc(Long wigId, int fromWeekKey, int toWeekKey);
 
     /**
      * 특정 WIG의 특정 주차 Commitments 조회
@@ -36,4 +48,73 @@ public interface CommitmentRepository extends JpaRepository<Commitment, Long> {
      */
     long countByWigIdAndWeek(Long wigId, String week);
 
+    /**
+     * 특정 WIG의 Commitment 버전 (조건부 GET용)
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(c), MAX(c.updatedAt)) "
+            + "FROM Commitment c WHERE c.wig.id = :wigId")
+    ResourceVersion findVersionByWigId(@Param("wigId") Long wigId);
+
+    /**
+     * 특정 사용자의 since 이후 생성/수정된 Commitments (델타 동기화용)
+     */
+    @Query("SELECT c FROM Commitment c "
+            + "WHERE c.wig.user.id = :userId AND c.updatedAt > :since")
+    List<Commitment> findChangedByUserId(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 완료 상태를 DB에서 뒤집음 (읽기 없이 UPDATE 한 문장, 동시 토글도 서로 덮어쓰지 않음)
+     * 소유자의 WIG에 속한 Commitment만 대상
+     *
+     * @return 변경된 행 수 (0이면 없거나 다른 사용자의 Commitment)
+     */
+    @Modifying
+    @Query("UPDATE Commitment c "
+            + "SET c.completed = CASE WHEN c.completed = true THEN false ELSE true END, c.updatedAt = :now "
+            + "WHERE c.id = :id AND c.wig.id IN (SELECT w.id FROM Wig w WHERE w.user.id = :userId)")
+    int toggleCompleted(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 완료 상태 지정 (이미 그 상태면 갱신하지 않음 → updatedAt/ETag 유지)
+     *
+     * @return 변경된 행 수 (0이면 없거나 이미 그 상태)
+     */
+    @Modifying
+    @Query("UPDATE Commitment c SET c.completed = :completed, c.updatedAt = :now "
+            + "WHERE c.id = :id AND c.wig.id = :wigId AND c.completed <> :completed")
+    int updateCompleted(@Param("id") Long id, @Param("wigId") Long wigId,
+                        @Param("completed") boolean completed, @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 WIG에 속한 Commitment의 주차 라벨 (없으면 empty, 완료 상태 지정 이벤트용)
+     */
+    @Query("SELECT c.week FROM Commitment c WHERE c.id = :id AND c.wig.id = :wigId")
+    Optional<String> findWeekByIdAndWigId(@Param("id") Long id, @Param("wigId") Long wigId);
+
+    /**
+     * 특정 WIG의 Commitment id limit개 (청크 삭제용)
+     */
+    @Query("SELECT c.id FROM Commitment c WHERE c.wig.id = :wigId")
+    List<Long> findIdsByWigId(@Param("wigId") Long wigId, Limit limit);
+
+    /**
+     * 주차 키가 없는 Commitment에 같은 라벨의 일간 데이터 주차 키 채움 (일간 데이터가 나중에 생긴 경우)
+     * updatedAt도 갱신해서 델타 동기화/ETag에 반영
+     */
+    @Modifying
+    @Query("UPDATE Commitment c SET c.updatedAt = :now, c.weekKey = "
+            + "(SELECT MIN(d.weekKey) FROM DailyData d WHERE d.wig.id = :wigId AND d.week = :week) "
+            + "WHERE c.wig.id = :wigId AND c.week = :week AND c.weekKey IS NULL "
+            + "AND EXISTS (SELECT 1 FROM DailyData d WHERE d.wig.id = :wigId AND d.week = :week)")
+    int fillWeekKey(@Param("wigId") Long wigId, @Param("week") String week, @Param("now") LocalDateTime now);
+
+    /**
+     * WIG 전체에서 주차 키가 없는 Commitment에 같은 라벨의 일간 데이터 주차 키 채움 (일괄 생성처럼 라벨을 모를 때)
+     */
+    @Modifying
+    @Query("UPDATE Commitment c SET c.updatedAt = :now, c.weekKey = "
+            + "(SELECT MIN(d.weekKey) FROM DailyData d WHERE d.wig.id = :wigId AND d.week = c.week) "
+            + "WHERE c.wig.id = :wigId AND c.weekKey IS NULL "
+            + "AND EXISTS (SELECT 1 FROM DailyData d WHERE d.wig.id = :wigId AND d.week = c.week)")
+    int fillWeekKeysByWigId(@Param("wigId") Long wigId, @Param("now") LocalDateTime now);
 }
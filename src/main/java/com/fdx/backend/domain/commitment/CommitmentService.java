@@ -1,17 +1,28 @@
 package com.fdx.backend.domain.commitment;
 
+import com.fdx.backend.domain.IsoWeek;
+import com.fdx.backend.domain.ResourceVersion;
+import com.fdx.backend.domain.dailydata.DailyDataRepository;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
 import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
 import com.fdx.backend.domain.wig.WigRepository;
 import com.fdx.backend.dto.CommitmentRequest;
 import com.fdx.backend.dto.CommitmentResponse;
+import com.fdx.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -25,18 +36,34 @@ public class CommitmentService {
 
     private final CommitmentRepository commitmentRepository;
     private final WigRepository wigRepository;
+    private final DailyDataRepository dailyDataRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CurrentUser currentUser;
 
     /**
-     * 특정 WIG의 모든 Commitments 조회
+     * 특정 WIG의 Commitments 버전 (조건부 GET용, 목록/주차별/이행률 공통)
      */
-    public List<CommitmentResponse> getCommitmentsByWigId(Long wigId) {
-        log.info("WIG {}의 Commitments 조회", wigId);
+    public ResourceVersion getCommitmentsVersion(Long wigId) {
+        wigOwnershipIndex.checkAccess(wigId);
+        return commitmentRepository.findVersionByWigId(wigId);
+    }
 
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
-        }
+    /**
+     * 특정 WIG의 Commitments 조회 (주차 순서대로)
+     * from / to가 있으면 그 날짜들이 속한 주차 범위만 (주차를 알 수 없는 Commitment는 제외)
+     */
+    public List<CommitmentResponse> getCommitmentsByWigId(Long wigId, LocalDate from, LocalDate to) {
+        log.info("WIG {}의 Commitments 조회: {} ~ {}", wigId, from, to);
 
-        return commitmentRepository.findByWigId(wigId).stream()
+        wigOwnershipIndex.checkAccess(wigId);
+
+        List<Commitment> commitments = from == null && to == null
+                ? commitmentRepository.findByWigIdOrderByWeekKeyAscIdAsc(wigId)
+                : commitmentRepository.findByWigIdAndWeekKeyBetweenOrderByWeekKeyAscIdAsc(wigId,
+                        from != null ? IsoWeek.keyOf(from) : 0,
+                        to != null ? IsoWeek.keyOf(to) : Integer.MAX_VALUE);
+        return commitments.stream()
                 .map(CommitmentResponse::from)
                 .collect(Collectors.toList());
     }
@@ -47,9 +74,7 @@ public class CommitmentService {
     public List<CommitmentResponse> getCommitmentsByWigIdAndWeek(Long wigId, String week) {
         log.info("WIG {}의 {} Commitments 조회", wigId, week);
 
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
-        }
+        wigOwnershipIndex.checkAccess(wigId);
 
         return commitmentRepository.findByWigIdAndWeek(wigId, week).stream()
                 .map(CommitmentResponse::from)
@@ -62,9 +87,7 @@ public class CommitmentService {
     public Map<String, Object> getCommitmentCompletionRate(Long wigId, String week) {
         log.info("WIG {}의 {} 이행률 조회", wigId, week);
 
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
-        }
+        wigOwnershipIndex.checkAccess(wigId);
 
         long total = commitmentRepository.countByWigIdAndWeek(wigId, week);
         long completed = commitmentRepository.countByWigIdAndWeekAndCompletedTrue(wigId, week);
@@ -88,23 +111,22 @@ public class CommitmentService {
         log.info("Commitment 생성: text={}, week={}, wigId={}",
                 request.getText(), request.getWeek(), request.getWigId());
 
-        // WIG 조회
-        Wig wig = wigRepository.findById(request.getWigId())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "해당 WIG를 찾을 수 없습니다: " + request.getWigId()));
+        // 존재/소유자는 인덱스로 확인했으므로 WIG는 FK 연결용 프록시만 사용 (SELECT 없음)
+        wigOwnershipIndex.checkAccess(request.getWigId());
+        Wig wig = wigRepository.getReferenceById(request.getWigId());
 
         // Commitment 생성
         Commitment commitment = Commitment.builder()
                 .text(request.getText())
                 .week(request.getWeek())
+                .weekKey(weekKeyOf(request.getWigId(), request))
                 .completed(request.getCompleted() != null ? request.getCompleted() : false)
                 .wig(wig)
                 .build();
 
-        // 양방향 관계 동기화
-        wig.addCommitment(commitment);
-
         Commitment savedCommitment = commitmentRepository.save(commitment);
+        eventPublisher.publishEvent(WigDataChangedEvent.commitment(request.getWigId(), savedCommitment.getId(),
+                savedCommitment.getWeek(), ChangeType.CREATED));
         log.info("Commitment 생성 완료: id={}", savedCommitment.getId());
 
         return CommitmentResponse.from(savedCommitment);
@@ -120,14 +142,25 @@ public class CommitmentService {
         Commitment commitment = commitmentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 Commitment를 찾을 수 없습니다: " + id));
+        wigOwnershipIndex.checkAccess(commitment.getWig().getId());
 
         // 엔티티 수정
+        String previousWeek = commitment.getWeek();
+        Long wigId = commitment.getWig().getId();
+        if (request.getDate() != null || !Objects.equals(previousWeek, request.getWeek())) {
+            commitment.setWeekKey(weekKeyOf(wigId, request));
+        }
         commitment.setText(request.getText());
         commitment.setWeek(request.getWeek());
         if(request.getCompleted() != null) {
             commitment.setCompleted(request.getCompleted());
         }
 
+        if (!Objects.equals(previousWeek, commitment.getWeek())) {
+            eventPublisher.publishEvent(WigDataChangedEvent.commitment(wigId, id, previousWeek, ChangeType.UPDATED));
+        }
+        eventPublisher.publishEvent(WigDataChangedEvent.commitment(wigId, id, commitment.getWeek(), ChangeType.UPDATED));
+
         log.info("Commitment 수정 완료: id={}", id);
 
         return CommitmentResponse.from(commitment);
@@ -135,22 +168,48 @@ public class CommitmentService {
 
     /**
      * Commitment 완료 상태 토글
+     *
+     * 엔티티를 읽어 뒤집고 dirty checking으로 쓰는 대신 조건부 UPDATE 한 문장으로 뒤집음
+     * → 같은 항목을 동시에 토글해도 (더블클릭, 여러 기기) 한쪽 변경이 사라지지 않음
+     * 응답용으로 갱신된 행을 PK로 한 번 읽음 (MySQL은 UPDATE ... RETURNING이 없음)
      */
     @Transactional
     public CommitmentResponse toggleCommitmentCompleted(Long id) {
         log.info("Commitment 완료 상태 토글: id={}", id);
 
+        if (commitmentRepository.toggleCompleted(id, currentUser.getId(), LocalDateTime.now()) == 0) {
+            throw notUpdated(id);
+        }
         Commitment commitment = commitmentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 Commitment를 찾을 수 없습니다: " + id));
 
-        commitment.toggleCompleted();
+        eventPublisher.publishEvent(WigDataChangedEvent.commitment(commitment.getWig().getId(), id,
+                commitment.getWeek(), ChangeType.UPDATED));
 
         log.info("Commitment 완료 상태 변경: id={}, completed={}", id, commitment.getCompleted());
 
         return CommitmentResponse.from(commitment);
     }
 
+    /**
+     * Commitment 완료 상태 지정 (주차 라벨 조회 + UPDATE 한 문장)
+     * 토글과 달리 재시도해도 결과가 같음 (멱등)
+     */
+    @Transactional
+    public void setCommitmentCompleted(Long wigId, Long id, boolean completed) {
+        log.info("Commitment 완료 상태 지정: wigId={}, id={}, completed={}", wigId, id, completed);
+
+        wigOwnershipIndex.checkAccess(wigId);
+
+        String week = commitmentRepository.findWeekByIdAndWigId(id, wigId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 Commitment를 찾을 수 없습니다: " + id));
+        if (commitmentRepository.updateCompleted(id, wigId, completed, LocalDateTime.now()) == 0) {
+            return; // 이미 요청한 상태
+        }
+        eventPublisher.publishEvent(WigDataChangedEvent.commitment(wigId, id, week, ChangeType.UPDATED));
+    }
+
     /**
      * Commitment 삭제
      */
@@ -158,12 +217,39 @@ public class CommitmentService {
     public void deleteCommitment(Long id) {
         log.info("Commitment 삭제: id={}", id);
 
-        if (!commitmentRepository.existsById(id)) {
-            throw new IllegalArgumentException("해당 Commitment를 찾을 수 없습니다: " + id);
-        }
+        Commitment commitment = commitmentRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 Commitment를 찾을 수 없습니다: " + id));
+        wigOwnershipIndex.checkAccess(commitment.getWig().getId());
 
-        commitmentRepository.deleteById(id);
+        commitmentRepository.delete(commitment);
+        eventPublisher.publishEvent(WigDataChangedEvent.commitment(commitment.getWig().getId(), id,
+                commitment.getWeek(), ChangeType.DELETED));
         log.info("Commitment 삭제 완료: id={}", id);
     }
 
+    /**
+     * 조건부 UPDATE가 0건일 때 원인에 맞는 예외 (다른 사용자의 Commitment면 checkAccess가 던짐)
+     */
+    private IllegalArgumentException notUpdated(Long id) {
+        commitmentRepository.findById(id)
+                .ifPresent(commitment -> wigOwnershipIndex.checkAccess(commitment.getWig().getId()));
+        return new IllegalArgumentException("해당 Commitment를 찾을 수 없습니다: " + id);
+    }
+
+    /**
+     * 요청 date가 속한 ISO 주차, date가 없으면 같은 주차 라벨의 일간 데이터 기준
+     * date가 라벨의 일간 데이터와 다른 주면 400 (같은 라벨이 두 주차로 갈라지지 않도록)
+     */
+    private Integer weekKeyOf(Long wigId, CommitmentRequest request) {
+        Integer labelWeekKey = dailyDataRepository.findWeekKeyByWigIdAndWeek(wigId, request.getWeek());
+        if (request.getDate() == null) {
+            return labelWeekKey;
+        }
+        int weekKey = IsoWeek.keyOf(request.getDate());
+        if (labelWeekKey != null && labelWeekKey != weekKey) {
+            throw new IllegalArgumentException("date가 주차 라벨 " + request.getWeek() + "의 주에 속하지 않습니다: "
+                    + request.getDate());
+        }
+        return weekKey;
+    }
 }
@@ -1,6 +1,7 @@
 package com.fdx.backend.domain.dailydata;
 
 
+import com.fdx.backend.domain.IsoWeek;
 import com.fdx.backend.domain.wig.Wig;
 import jakarta.persistence.*;
 import lombok.*;
@@ -20,7 +21,11 @@ import java.util.List;
  */
 @Entity
 @Table(name = "daily_data",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"wig_id", "date"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"wig_id", "date"}),
+        indexes = {
+                @Index(name = "idx_daily_data_wig_updated", columnList = "wig_id, updated_at"),
+                @Index(name = "idx_daily_data_wig_week_date", columnList = "wig_id, week, date") // 주차별 조회
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,6 +33,10 @@ import java.util.List;
 @Builder
 public class DailyData {
 
+    // 받을 수 있는 날짜 범위: MySQL DATE 최소값 ~ 오늘로부터 MAX_FUTURE_YEARS년 뒤
+    public static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final int MAX_FUTURE_YEARS = 1;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -38,6 +47,13 @@ public class DailyData {
     @Column(nullable = false, length = 10)
     private String week;
 
+    /**
+     * date가 속한 ISO 주차 키 (IsoWeek), 저장할 때 date로 계산
+     * week는 클라이언트가 붙인 라벨이라 정렬/범위 조회에 쓸 수 없음
+     */
+    @Column(nullable = false)
+    private Integer weekKey;
+
     @Column(length = 10)
     private String dayOfWeek;
 
@@ -61,4 +77,27 @@ public class DailyData {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 일간 데이터로 저장할 수 있는 날짜인지
+     * 먼 미래 날짜는 달성 인덱스/streak 계산 범위를 키우기만 하므로 받지 않음
+     */
+    public static boolean isAllowedDate(LocalDate date) {
+        return !date.isBefore(MIN_DATE) && !date.isAfter(LocalDate.now().plusYears(MAX_FUTURE_YEARS));
+    }
+
+    /**
+     * @throws IllegalArgumentException 저장할 수 없는 날짜
+     */
+    public static void checkDate(LocalDate date) {
+        if (!isAllowedDate(date)) {
+            throw new IllegalArgumentException(String.format(
+                    "일간 데이터 날짜는 %s ~ 오늘로부터 %d년 이내여야 합니다: %s", MIN_DATE, MAX_FUTURE_YEARS, date));
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateWeekKey() {
+        weekKey = IsoWeek.keyOf(date);
+    }
 }
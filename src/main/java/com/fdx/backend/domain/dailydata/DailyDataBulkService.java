@@ -0,0 +1,232 @@
+package com.fdx.backend.domain.dailydata;
+
+import com.fdx.backend.domain.IsoWeek;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
+import com.fdx.backend.domain.leadmeasure.LeadMeasure;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.streak.StreakService;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
+import com.fdx.backend.dto.DailyDataBulkRequest;
+import com.fdx.backend.dto.DailyDataBulkResponse;
+import com.fdx.backend.dto.DailyDataBulkResponse.RowResult;
+import com.fdx.backend.dto.DailyDataBulkResponse.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * DailyData 일괄 생성 Service (과거 이력 백필용)
+ *
+ * - WIG / Lead Measure 검증은 요청당 한 번
+ * - CHUNK_SIZE 행 단위로 트랜잭션을 나누고, 청크마다 JDBC batch INSERT
+ *   (IDENTITY 키라 Hibernate batch insert가 안 되므로 JdbcTemplate 사용)
+ * - 청크 하나가 실패하면 그 청크만 롤백하고 나머지는 계속 진행
+ * - streak 프로젝션/달성 인덱스는 행마다 갱신하지 않고 마지막에 한 번 무효화
+ * - 변경 이벤트도 행마다가 아니라 커밋된 청크마다 한 번 (날짜 특정 없이 WIG 단위)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyDataBulkService {
+
+    private static final int MAX_ROWS = 5000;
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_DAILY_DATA =
+            "INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at) "
+                    + "VALUES (:date, :week, :weekKey, :dayOfWeek, :wigId, :now, :now)";
+    private static final String SELECT_DAILY_DATA_IDS =
+            "SELECT id, date FROM daily_data WHERE wig_id = :wigId AND date IN (:dates)";
+    private static final String INSERT_DAILY_LEAD_DATA =
+            "INSERT INTO daily_lead_data (daily_data_id, lead_measure_id, lead_value) "
+                    + "VALUES (:dailyDataId, :leadMeasureId, :value)";
+
+    private final DailyDataRepository dailyDataRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
+    private final LeadMeasureRepository leadMeasureRepository;
+    private final StreakService streakService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 특정 WIG의 일간 데이터 일괄 생성
+     * 이미 있는 날짜는 덮어쓰지 않고 DUPLICATE로 건너뜀
+     */
+    public DailyDataBulkResponse createDailyData(Long wigId, DailyDataBulkRequest request) {
+        List<DailyDataBulkRequest.Row> rows = request.getRows();
+        log.info("일간 데이터 일괄 생성: wigId={}, rows={}", wigId, rows.size());
+
+        if (rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("일괄 생성은 최대 " + MAX_ROWS + "건까지 가능합니다.");
+        }
+        wigOwnershipIndex.checkAccess(wigId);
+
+        Set<Long> leadMeasureIds = leadMeasureRepository.findByWigId(wigId).stream()
+                .map(LeadMeasure::getId)
+                .collect(Collectors.toSet());
+
+        RowResult[] results = new RowResult[rows.size()];
+        List<Integer> validIndexes = validate(rows, leadMeasureIds, results);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < validIndexes.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + CHUNK_SIZE, validIndexes.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(wigId, rows, chunk, results));
+            } catch (DataAccessException e) {
+                log.warn("WIG {}의 일간 데이터 일괄 생성 청크 실패 ({}건): {}", wigId, chunk.size(), e.getMessage());
+                for (int index : chunk) {
+                    results[index] = result(index, rows.get(index), Status.FAILED, null, "저장 중 오류가 발생했습니다");
+                }
+            }
+        }
+
+        DailyDataBulkResponse response = DailyDataBulkResponse.builder()
+                .total(rows.size())
+                .results(Arrays.asList(results))
+                .build();
+        for (RowResult result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> response.setCreated(response.getCreated() + 1);
+                case DUPLICATE -> response.setDuplicated(response.getDuplicated() + 1);
+                case INVALID -> response.setInvalid(response.getInvalid() + 1);
+                case FAILED -> response.setFailed(response.getFailed() + 1);
+            }
+        }
+
+        if (response.getCreated() > 0) {
+            streakService.invalidate(wigId);
+        }
+        log.info("일간 데이터 일괄 생성 완료: wigId={}, created={}, duplicated={}, invalid={}, failed={}",
+                wigId, response.getCreated(), response.getDuplicated(), response.getInvalid(), response.getFailed());
+        return response;
+    }
+
+    /**
+     * 행별 검증 (DB 조회 없음)
+     *
+     * @return 검증을 통과한 행의 인덱스
+     */
+    private List<Integer> validate(List<DailyDataBulkRequest.Row> rows, Set<Long> leadMeasureIds,
+                                   RowResult[] results) {
+        List<Integer> validIndexes = new ArrayList<>();
+        Set<LocalDate> seenDates = new HashSet<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            DailyDataBulkRequest.Row row = rows.get(i);
+            String error = null;
+            if (row.getDate() == null) {
+                error = "날짜는 필수입니다";
+            } else if (!DailyData.isAllowedDate(row.getDate())) {
+                error = "저장할 수 없는 날짜입니다: " + row.getDate();
+            } else if (row.getWeek() == null || row.getWeek().isBlank()) {
+                error = "주차는 필수입니다";
+            } else if (!seenDates.add(row.getDate())) {
+                error = "요청 안에 같은 날짜가 중복되었습니다: " + row.getDate();
+            } else if (row.getLeadValues() != null) {
+                error = row.getLeadValues().keySet().stream()
+                        .filter(id -> !leadMeasureIds.contains(id))
+                        .findFirst()
+                        .map(id -> "해당 Lead Measure를 찾을 수 없습니다: " + id)
+                        .orElse(null);
+            }
+
+            if (error != null) {
+                results[i] = result(i, row, Status.INVALID, null, error);
+            } else {
+                validIndexes.add(i);
+            }
+        }
+        return validIndexes;
+    }
+
+    /**
+     * 한 청크 저장: 기존 날짜 확인 1번 + daily_data batch INSERT + id 조회 1번 + daily_lead_data batch INSERT
+     */
+    private void insertChunk(Long wigId, List<DailyDataBulkRequest.Row> rows, List<Integer> chunk,
+                             RowResult[] results) {
+        List<LocalDate> dates = chunk.stream().map(i -> rows.get(i).getDate()).collect(Collectors.toList());
+        Set<LocalDate> existing = new HashSet<>(dailyDataRepository.findDatesByWigIdAndDateIn(wigId, dates));
+
+        List<Integer> toInsert = new ArrayList<>();
+        for (int index : chunk) {
+            if (existing.contains(rows.get(index).getDate())) {
+                results[index] = result(index, rows.get(index), Status.DUPLICATE, null,
+                        "해당 날짜의 데이터가 이미 존재합니다");
+            } else {
+                toInsert.add(index);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] dailyParams = toInsert.stream()
+                .map(rows::get)
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("date", Date.valueOf(row.getDate()))
+                        .addValue("week", row.getWeek())
+                        .addValue("weekKey", IsoWeek.keyOf(row.getDate()))
+                        .addValue("dayOfWeek", row.getDayOfWeek())
+                        .addValue("wigId", wigId)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_DAILY_DATA, dailyParams);
+
+        Map<LocalDate, Long> idsByDate = new HashMap<>();
+        jdbcTemplate.query(SELECT_DAILY_DATA_IDS,
+                new MapSqlParameterSource()
+                        .addValue("wigId", wigId)
+                        .addValue("dates", toInsert.stream()
+                                .map(i -> Date.valueOf(rows.get(i).getDate()))
+                                .collect(Collectors.toList())),
+                rs -> {
+                    idsByDate.put(rs.getDate("date").toLocalDate(), rs.getLong("id"));
+                });
+
+        List<SqlParameterSource> leadParams = new ArrayList<>();
+        for (int index : toInsert) {
+            DailyDataBulkRequest.Row row = rows.get(index);
+            Long dailyDataId = idsByDate.get(row.getDate());
+            if (row.getLeadValues() != null) {
+                row.getLeadValues().forEach((leadMeasureId, value) -> leadParams.add(new MapSqlParameterSource()
+                        .addValue("dailyDataId", dailyDataId)
+                        .addValue("leadMeasureId", leadMeasureId)
+                        .addValue("value", value)));
+            }
+            results[index] = result(index, row, Status.CREATED, dailyDataId, null);
+        }
+        if (!leadParams.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DAILY_LEAD_DATA, leadParams.toArray(SqlParameterSource[]::new));
+        }
+        eventPublisher.publishEvent(WigDataChangedEvent.dailyData(wigId, null, null, null, ChangeType.CREATED));
+    }
+
+    private RowResult result(int index, DailyDataBulkRequest.Row row, Status status, Long dailyDataId,
+                             String message) {
+        return RowResult.builder()
+                .index(index)
+                .date(row.getDate())
+                .status(status)
+                .dailyDataId(dailyDataId)
+                .message(message)
+                .build();
+    }
+}
@@ -1,7 +1,14 @@
 package com.fdx.backend.domain.dailydata;
 
+import com.fdx.backend.dto.AchievementCalendarResponse;
+import com.fdx.backend.dto.DailyDataBulkRequest;
+import com.fdx.backend.dto.DailyDataBulkResponse;
+import com.fdx.backend.dto.DailyDataPageResponse;
 import com.fdx.backend.dto.DailyDataRequest;
 import com.fdx.backend.dto.DailyDataResponse;
+import com.fdx.backend.dto.DailyDataUpsertRequest;
+import com.fdx.backend.dto.LeadValuePatchRequest;
+import com.fdx.backend.dto.LeadValueResponse;
 import com.fdx.backend.dto.StreakResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +17,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -20,12 +28,20 @@ import java.util.Map;
  * DailyData REST API Controller
  *
  * API 엔드포인트:
- * GET    /api/wigs/{wigId}/daily-data                    - 특정 WIG의 모든 일간 데이터 조회
+ * GET    /api/wigs/{wigId}/daily-data                    - 특정 WIG의 일간 데이터 페이지 조회 (cursor, size)
  * GET    /api/wigs/{wigId}/daily-data/week/{week}        - 특정 WIG의 특정 주차 일간 데이터 조회
- * GET    /api/wigs/{wigId}/daily-data/range              - 특정 WIG의 날짜 범위 일간 데이터 조회
+ * GET    /api/wigs/{wigId}/daily-data/range              - 특정 WIG의 날짜 범위 일간 데이터 페이지 조회 (cursor, size)
+ * GET    /api/wigs/{wigId}/streak                        - 특정 WIG의 현재/최장 streak 조회
+ * GET    /api/wigs/{wigId}/streak/calendar               - 특정 WIG의 기간별 달성 캘린더 조회
  * POST   /api/daily-data                                  - 일간 데이터 생성
+ * POST   /api/wigs/{wigId}/daily-data/bulk               - 특정 WIG의 일간 데이터 일괄 생성 (최대 5000건)
+ * PUT    /api/wigs/{wigId}/daily-data/{date}             - 특정 WIG의 특정 날짜 일간 데이터 upsert
+ * PATCH  /api/wigs/{wigId}/daily-data/{date}/lead-values/{leadMeasureId} - 특정 날짜의 리드매셔 실적 하나 저장
  * PUT    /api/daily-data/{id}                             - 일간 데이터 수정
  * DELETE /api/daily-data/{id}                             - 일간 데이터 삭제
+ *
+ * 조회 API는 ETag 조건부 요청 지원: 일간 데이터 + Lead Measure의 개수/최근 수정 시각으로 버전을 만들고
+ * If-None-Match가 같으면 본문 조회 없이 304 반환
  */
 @RestController
 @RequiredArgsConstructor
@@ -33,16 +49,24 @@ import java.util.Map;
 public class DailyDataController {
 
     private final DailyDataService dailyDataService;
+    private final DailyDataBulkService dailyDataBulkService;
 
     /**
-     * 특정 WIG의 모든 일간 데이터 조회
-     * GET /api/wigs/{wigId}/daily-data
+     * 특정 WIG의 일간 데이터 페이지 조회 (날짜 오름차순)
+     * GET /api/wigs/{wigId}/daily-data?size=31
+     * GET /api/wigs/{wigId}/daily-data?cursor={nextCursor}&size=31
      */
     @GetMapping("/api/wigs/{wigId}/daily-data")
-    public ResponseEntity<List<DailyDataResponse>> getDailyDataByWigId(
-            @PathVariable Long wigId) {
+    public ResponseEntity<DailyDataPageResponse> getDailyDataByWigId(
+            @PathVariable Long wigId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/daily-data - 일간 데이터 조회 요청", wigId);
-        List<DailyDataResponse> dailyData = dailyDataService.getDailyDataByWigId(wigId);
+        if (webRequest.checkNotModified(dailyDataService.getDailyDataVersion(wigId).etag())) {
+            return null; // 304 Not Modified (엔티티 조회/JSON 직렬화 생략)
+        }
+        DailyDataPageResponse dailyData = dailyDataService.getDailyDataByWigId(wigId, cursor, size);
         return ResponseEntity.ok(dailyData);
     }
 
@@ -53,25 +77,36 @@ public class DailyDataController {
     @GetMapping("/api/wigs/{wigId}/daily-data/week/{week}")
     public ResponseEntity<List<DailyDataResponse>> getDailyDataByWigIdAndWeek(
             @PathVariable Long wigId,
-            @PathVariable String week) {
+            @PathVariable String week,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/daily-data/week/{} - 주차별 일간 데이터 조회 요청", wigId, week);
+        if (webRequest.checkNotModified(dailyDataService.getDailyDataVersion(wigId).etag())) {
+            return null;
+        }
         List<DailyDataResponse> dailyData = dailyDataService.getDailyDataByWigIdAndWeek(wigId, week);
         return ResponseEntity.ok(dailyData);
     }
 
     /**
-     * 특정 WIG의 날짜 범위 일간 데이터 조회
+     * 특정 WIG의 날짜 범위 일간 데이터 페이지 조회 (최대 366일)
      * GET /api/wigs/{wigId}/daily-data/range?startDate=2025-01-01&endDate=2025-01-07
+     * GET /api/wigs/{wigId}/daily-data/range?startDate=2025-01-01&endDate=2025-12-31&cursor={nextCursor}
      */
     @GetMapping("/api/wigs/{wigId}/daily-data/range")
-    public ResponseEntity<List<DailyDataResponse>> getDailyDataByDateRange(
+    public ResponseEntity<DailyDataPageResponse> getDailyDataByDateRange(
             @PathVariable Long wigId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/daily-data/range - 날짜 범위 일간 데이터 조회 요청: {} ~ {}",
                 wigId, startDate, endDate);
-        List<DailyDataResponse> dailyData =
-                dailyDataService.getDailyDataByDateRange(wigId, startDate, endDate);
+        if (webRequest.checkNotModified(dailyDataService.getDailyDataVersion(wigId).etag())) {
+            return null;
+        }
+        DailyDataPageResponse dailyData =
+                dailyDataService.getDailyDataByDateRange(wigId, startDate, endDate, cursor, size);
         return ResponseEntity.ok(dailyData);
     }
 
@@ -80,12 +115,38 @@ public class DailyDataController {
      * GET /api/wigs/{wigId}/streak
      */
     @GetMapping("/api/wigs/{wigId}/streak")
-    public ResponseEntity<StreakResponse> getStreak(@PathVariable Long wigId) {
+    public ResponseEntity<StreakResponse> getStreak(
+            @PathVariable Long wigId,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/streak - streak 조회 요청", wigId);
+        // 현재 streak는 오늘 날짜 기준이라 날짜가 바뀌면 데이터가 그대로여도 응답이 달라짐
+        // 프로젝션은 커밋 후 비동기로 갱신되므로 프로젝션 버전도 포함
+        if (webRequest.checkNotModified(dailyDataService.getStreakVersion(wigId).etag(LocalDate.now()))) {
+            return null;
+        }
         StreakResponse streak = dailyDataService.getStreak(wigId);
         return ResponseEntity.ok(streak);
     }
 
+    /**
+     * 특정 WIG의 기간별 달성 캘린더 조회
+     * GET /api/wigs/{wigId}/streak/calendar?startDate=2025-01-01&endDate=2025-01-31
+     */
+    @GetMapping("/api/wigs/{wigId}/streak/calendar")
+    public ResponseEntity<AchievementCalendarResponse> getAchievementCalendar(
+            @PathVariable Long wigId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+        log.info("GET /api/wigs/{}/streak/calendar - 달성 캘린더 조회 요청: {} ~ {}", wigId, startDate, endDate);
+        // 달성 인덱스는 조회 때 같은 버전으로 검증/재생성되므로 일간 데이터 버전과 응답이 항상 일치
+        if (webRequest.checkNotModified(dailyDataService.getDailyDataVersion(wigId).etag())) {
+            return null;
+        }
+        AchievementCalendarResponse calendar = dailyDataService.getAchievementCalendar(wigId, startDate, endDate);
+        return ResponseEntity.ok(calendar);
+    }
+
     /**
      * 일간 데이터 생성
      * POST /api/daily-data
@@ -99,6 +160,52 @@ public class DailyDataController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdDailyData);
     }
 
+    /**
+     * 특정 WIG의 일간 데이터 일괄 생성
+     * POST /api/wigs/{wigId}/daily-data/bulk
+     * 행별 처리 결과(CREATED / DUPLICATE / INVALID / FAILED)를 반환
+     */
+    @PostMapping("/api/wigs/{wigId}/daily-data/bulk")
+    public ResponseEntity<DailyDataBulkResponse> createDailyDataBulk(
+            @PathVariable Long wigId,
+            @Valid @RequestBody DailyDataBulkRequest request) {
+        log.info("POST /api/wigs/{}/daily-data/bulk - 일간 데이터 일괄 생성 요청: {}건",
+                wigId, request.getRows().size());
+        DailyDataBulkResponse response = dailyDataBulkService.createDailyData(wigId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 특정 WIG의 특정 날짜 일간 데이터 upsert (없으면 생성, 있으면 교체)
+     * PUT /api/wigs/{wigId}/daily-data/2025-01-06
+     */
+    @PutMapping("/api/wigs/{wigId}/daily-data/{date}")
+    public ResponseEntity<DailyDataResponse> upsertDailyData(
+            @PathVariable Long wigId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Valid @RequestBody DailyDataUpsertRequest request) {
+        log.info("PUT /api/wigs/{}/daily-data/{} - 일간 데이터 upsert 요청", wigId, date);
+        DailyDataResponse dailyData = dailyDataService.upsertDailyData(wigId, date, request);
+        return ResponseEntity.ok(dailyData);
+    }
+
+    /**
+     * 특정 날짜의 리드매셔 실적 하나 저장 (일간 데이터가 없으면 생성)
+     * PATCH /api/wigs/{wigId}/daily-data/2025-01-06/lead-values/1
+     * 응답은 저장한 값만 포함
+     */
+    @PatchMapping("/api/wigs/{wigId}/daily-data/{date}/lead-values/{leadMeasureId}")
+    public ResponseEntity<LeadValueResponse> patchLeadValue(
+            @PathVariable Long wigId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @PathVariable Long leadMeasureId,
+            @RequestBody LeadValuePatchRequest request) {
+        log.info("PATCH /api/wigs/{}/daily-data/{}/lead-values/{} - 리드매셔 실적 저장 요청",
+                wigId, date, leadMeasureId);
+        LeadValueResponse leadValue = dailyDataService.patchLeadValue(wigId, date, leadMeasureId, request);
+        return ResponseEntity.ok(leadValue);
+    }
+
     /**
      * 일간 데이터 수정
      * PUT /api/daily-data/{id}
@@ -1,26 +1,45 @@
 package com.fdx.backend.domain.dailydata;
 
+import com.fdx.backend.domain.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * DailyData Repository
+ *
+ * 목록 조회는 leadValues를 함께 fetch join (@EntityGraph)
+ * → 일수와 무관하게 쿼리 1번 (일자별 leadValues 지연 로딩 N+1 방지)
+ *
+ * 조회 전용 API는 엔티티 대신 DailyDataRow 프로젝션으로 읽음 (영속성 컨텍스트/dirty checking 없음)
  */
 @Repository
 public interface DailyDataRepository extends JpaRepository<DailyData, Long> {
 
     /**
-     * 특정 WIG의 모든 일간 데이터 조회 (날짜 순서대로)
+     * 특정 WIG의 모든 일간 데이터 조회 (날짜 순서대로, leadValues 포함)
      */
+    @EntityGraph(attributePaths = "leadValues")
     List<DailyData> findByWigIdOrderByDateAsc(Long wigId);
 
     /**
-     * 특정 WIG의 특정 주차 일간 데이터 조회
+     * 특정 WIG의 특정 주차 일간 데이터 조회 (leadValues 포함)
      */
+    @EntityGraph(attributePaths = "leadValues")
     List<DailyData> findByWigIdAndWeekOrderByDateAsc(Long wigId, String week);
 
     /**
@@ -29,8 +48,9 @@ public interface DailyDataRepository extends JpaRepository<DailyData, Long> {
     Optional<DailyData> findByWigIdAndDate(Long wigId, LocalDate date);
 
     /**
-     * 특정 WIG의 날짜 범위 데이터 조회
+     * 특정 WIG의 날짜 범위 데이터 조회 (leadValues 포함)
      */
+    @EntityGraph(attributePaths = "leadValues")
     List<DailyData> findByWigIdAndDateBetweenOrderByDateAsc(
             Long wigId, LocalDate startDate, LocalDate endDate);
 
@@ -39,4 +59,89 @@ public interface DailyDataRepository extends JpaRepository<DailyData, Long> {
      */
     boolean existsByWigIdAndDate(Long wigId, LocalDate date);
 
+    /**
+     * 주차 라벨이 가리키는 ISO 주차 키 (해당 라벨의 일간 데이터 날짜 기준, 일간 데이터가 없으면 null)
+     * 날짜가 없는 주간 데이터/Commitment의 weekKey를 정할 때 사용
+     */
+    @Query("SELECT MIN(d.weekKey) FROM DailyData d WHERE d.wig.id = :wigId AND d.week = :week")
+    Integer findWeekKeyByWigIdAndWeek(@Param("wigId") Long wigId, @Param("week") String week);
+
+    /**
+     * 특정 WIG에서 주어진 날짜들 중 이미 데이터가 있는 날짜 조회 (일괄 생성 중복 확인용)
+     */
+    @Query("SELECT d.date FROM DailyData d WHERE d.wig.id = :wigId AND d.date IN :dates")
+    List<LocalDate> findDatesByWigIdAndDateIn(@Param("wigId") Long wigId, @Param("dates") Collection<LocalDate> dates);
+
+    /**
+     * 특정 WIG의 일간 데이터 버전 (조건부 GET용, 리드매셔 실적을 바꾸면 상위 행 updatedAt도 갱신됨)
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(d), MAX(d.updatedAt)) "
+            + "FROM DailyData d WHERE d.wig.id = :wigId")
+    ResourceVersion findVersionByWigId(@Param("wigId") Long wigId);
+
+    String ROW_SELECT = "SELECT new com.fdx.backend.domain.dailydata.DailyDataRow("
+            + "d.id, d.date, d.week, d.dayOfWeek, d.wig.id, d.createdAt, d.updatedAt, v.leadMeasure.id, v.value) "
+            + "FROM DailyData d LEFT JOIN d.leadValues v ";
+
+    /**
+     * 특정 WIG의 특정 주차 일간 데이터 행 조회 (날짜 순서대로)
+     */
+    @Query(ROW_SELECT + "WHERE d.wig.id = :wigId AND d.week = :week ORDER BY d.date ASC")
+    List<DailyDataRow> findRowsByWigIdAndWeek(@Param("wigId") Long wigId, @Param("week") String week);
+
+    /**
+     * 특정 WIG의 날짜 범위 일간 데이터 행 조회 (날짜 순서대로)
+     */
+    @Query(ROW_SELECT + "WHERE d.wig.id = :wigId AND d.date BETWEEN :startDate AND :endDate ORDER BY d.date ASC")
+    List<DailyDataRow> findRowsByWigIdAndDateBetween(
+            @Param("wigId") Long wigId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 WIG의 날짜 범위 안에서 날짜만 오름차순으로 limit개 조회 (keyset 페이지네이션용)
+     * (wig_id, date) 유니크 인덱스 범위 스캔이라 몇 번째 페이지든 비용이 같음
+     */
+    @Query("SELECT d.date FROM DailyData d "
+            + "WHERE d.wig.id = :wigId AND d.date BETWEEN :startDate AND :endDate ORDER BY d.date ASC")
+    List<LocalDate> findDatesByWigIdAndDateBetween(
+            @Param("wigId") Long wigId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Limit limit);
+
+    /**
+     * 특정 사용자의 since 이후 생성/수정된 일간 데이터 행 (델타 동기화용, id 순서)
+     */
+    @Query(ROW_SELECT + "WHERE d.wig.user.id = :userId AND d.updatedAt > :since ORDER BY d.id ASC")
+    List<DailyDataRow> findChangedRowsByUserId(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 특정 WIG의 모든 일간 데이터 행을 DB 커서로 스트리밍 (내보내기용, 트랜잭션 안에서 사용 후 close 필요)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ROW_SELECT + "WHERE d.wig.id = :wigId ORDER BY d.date ASC")
+    Stream<DailyDataRow> streamRowsByWigId(@Param("wigId") Long wigId);
+
+    /**
+     * 일간 데이터의 updated_at 갱신 (리드매셔 실적만 바뀌어도 버전/ETag가 바뀌도록)
+     * 대기 중인 실적 변경을 먼저 flush 한 뒤 상위 행만 UPDATE 1문장
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyData d SET d.updatedAt = :now WHERE d.id = :id")
+    int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 리드매셔 실적들이 속한 일간 데이터의 updated_at 갱신 (실적 벌크 삭제 전에 호출)
+     */
+    @Modifying
+    @Query("UPDATE DailyData d SET d.updatedAt = :now "
+            + "WHERE d.id IN (SELECT v.dailyData.id FROM DailyLeadData v WHERE v.id IN :leadDataIds)")
+    int touchByLeadDataIdIn(@Param("leadDataIds") Collection<Long> leadDataIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 WIG의 일간 데이터 id limit개 (청크 삭제용)
+     */
+    @Query("SELECT d.id FROM DailyData d WHERE d.wig.id = :wigId")
+    List<Long> findIdsByWigId(@Param("wigId") Long wigId, Limit limit);
 }
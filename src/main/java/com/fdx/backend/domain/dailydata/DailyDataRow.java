@@ -0,0 +1,22 @@
+package com.fdx.backend.domain.dailydata;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일간 데이터 조회용 플랫 프로젝션
+ * 일간 데이터 1건 × 리드매셔 실적 1건당 한 행 (실적이 없으면 leadMeasureId, value가 null인 한 행)
+ *
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 바로 응답으로 묶기 위해 사용
+ */
+public record DailyDataRow(
+        Long id,
+        LocalDate date,
+        String week,
+        String dayOfWeek,
+        Long wigId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long leadMeasureId,
+        Double value) {
+}
@@ -1,20 +1,35 @@
 package com.fdx.backend.domain.dailydata;
 
-import com.fdx.backend.domain.GoalDirection;
+import com.fdx.backend.domain.ResourceVersion;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
 import com.fdx.backend.domain.leadmeasure.LeadMeasure;
 import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.streak.StreakService;
 import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
 import com.fdx.backend.domain.wig.WigRepository;
+import com.fdx.backend.dto.AchievementCalendarResponse;
+import com.fdx.backend.dto.DailyDataPageResponse;
 import com.fdx.backend.dto.DailyDataRequest;
 import com.fdx.backend.dto.DailyDataResponse;
+import com.fdx.backend.dto.DailyDataUpsertRequest;
+import com.fdx.backend.dto.LeadValuePatchRequest;
+import com.fdx.backend.dto.LeadValueResponse;
 import com.fdx.backend.dto.StreakResponse;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,22 +44,49 @@ public class DailyDataService {
 
     private final DailyDataRepository dailyDataRepository;
     private final WigRepository wigRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
     private final LeadMeasureRepository leadMeasureRepository;
-    private final EntityManager entityManager;
+    private final StreakService streakService;
+    private final DailyDataUpsertRepository dailyDataUpsertRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int DEFAULT_PAGE_SIZE = 31;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RANGE_DAYS = 366;
+
+    // 전체 조회용 날짜 범위 (MySQL DATE 타입 범위 안)
+    private static final LocalDate MIN_DATE = DailyData.MIN_DATE;
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
 
     /**
-     * 특정 WIG의 모든 일간 데이터 조회
+     * 특정 WIG의 일간 데이터 버전 (조건부 GET용)
+     * 응답의 leadValues가 Lead Measure 구성(삭제 포함)에 따라 달라지므로 Lead Measure 버전도 합쳐서 계산
+     * streak/달성 캘린더도 같은 버전 사용 (달성 여부 = 일간 실적 + Lead Measure 목표)
      */
-    public List<DailyDataResponse> getDailyDataByWigId(Long wigId) {
-        log.info("WIG {}의 일간 데이터 조회", wigId);
+    public ResourceVersion getDailyDataVersion(Long wigId) {
+        wigOwnershipIndex.checkAccess(wigId);
+        return dailyDataRepository.findVersionByWigId(wigId)
+                .and(leadMeasureRepository.findVersionByWigId(wigId));
+    }
 
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
-        }
+    /**
+     * 특정 WIG의 streak 응답 버전 (조건부 GET용)
+     * 일간 데이터 버전 + streak 프로젝션 버전 → 쓰기 직후 조회가 이전 프로젝션을 받아도
+     * 백그라운드 갱신이 끝나면 ETag가 바뀌어 다음 조회에서 새 값을 받음
+     */
+    public ResourceVersion getStreakVersion(Long wigId) {
+        return getDailyDataVersion(wigId).and(streakService.getProjectionVersion(wigId));
+    }
 
-        return dailyDataRepository.findByWigIdOrderByDateAsc(wigId).stream()
-                .map(DailyDataResponse::from)
-                .collect(Collectors.toList());
+    /**
+     * 특정 WIG의 일간 데이터 페이지 조회 (날짜 오름차순, 커서 기반)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (null이면 기본값, 최대 MAX_PAGE_SIZE)
+     */
+    public DailyDataPageResponse getDailyDataByWigId(Long wigId, String cursor, Integer size) {
+        log.info("WIG {}의 일간 데이터 조회: cursor={}, size={}", wigId, cursor, size);
+        return getDailyDataPage(wigId, MIN_DATE, MAX_DATE, cursor, size);
     }
 
     /**
@@ -53,179 +95,106 @@ public class DailyDataService {
     public List<DailyDataResponse> getDailyDataByWigIdAndWeek(Long wigId, String week) {
         log.info("WIG {}의 {} 일간 데이터 조회", wigId, week);
 
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
-        }
+        wigOwnershipIndex.checkAccess(wigId);
 
-        return dailyDataRepository.findByWigIdAndWeekOrderByDateAsc(wigId, week).stream()
-                .map(DailyDataResponse::from)
-                .collect(Collectors.toList());
+        return DailyDataResponse.fromRows(dailyDataRepository.findRowsByWigIdAndWeek(wigId, week));
     }
 
     /**
-     * 특정 WIG의 날짜 범위 일간 데이터 조회
+     * 특정 WIG의 날짜 범위 일간 데이터 페이지 조회 (날짜 오름차순, 커서 기반)
+     * 범위는 최대 MAX_RANGE_DAYS일
      */
-    public List<DailyDataResponse> getDailyDataByDateRange(
-            Long wigId, LocalDate startDate, LocalDate endDate) {
-        log.info("WIG {}의 일간 데이터 조회: {} ~ {}", wigId, startDate, endDate);
+    public DailyDataPageResponse getDailyDataByDateRange(
+            Long wigId, LocalDate startDate, LocalDate endDate, String cursor, Integer size) {
+        log.info("WIG {}의 일간 데이터 조회: {} ~ {}, cursor={}, size={}", wigId, startDate, endDate, cursor, size);
 
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 이후일 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일까지 가능합니다.");
         }
 
-        return dailyDataRepository
-                .findByWigIdAndDateBetweenOrderByDateAsc(wigId, startDate, endDate)
-                .stream()
-                .map(DailyDataResponse::from)
-                .collect(Collectors.toList());
+        return getDailyDataPage(wigId, startDate, endDate, cursor, size);
     }
 
     /**
-     * 특정 WIG의 연속달성(Streak) 계산
-     * - MAXIMIZE: actual >= dailyTarget 인 날 달성
-     * - MINIMIZE: actual <= dailyTarget 인 날 달성
-     * - 데이터 미입력일은 streak 중단
+     * keyset 페이지네이션
+     * 1) (wig_id, date) 인덱스에서 커서 다음 날짜를 size + 1개만 조회 (다음 페이지 존재 여부 확인용 1개 포함)
+     * 2) 그 날짜 구간의 일간 데이터 행을 조회
+     * OFFSET을 쓰지 않으므로 뒤쪽 페이지도 첫 페이지와 비용이 같음
      */
-    public StreakResponse getStreak(Long wigId) {
-        Wig wig = wigRepository.findById(wigId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId));
-        LocalDate wigCreatedDate = wig.getCreatedAt().toLocalDate();
-
-        List<LeadMeasure> leadMeasures = leadMeasureRepository.findByWigId(wigId).stream()
-                .sorted(Comparator.comparing(LeadMeasure::getId))
-                .collect(Collectors.toList());
-
-        List<DailyData> allData = dailyDataRepository.findByWigIdOrderByDateAsc(wigId);
-
-        if (allData.isEmpty() || leadMeasures.isEmpty()) {
-            List<StreakResponse.LeadMeasureStreak> emptyStreaks = leadMeasures.stream()
-                    .map(lm -> StreakResponse.LeadMeasureStreak.builder()
-                            .leadMeasureId(lm.getId())
-                            .name(lm.getName())
-                            .currentStreak(0)
-                            .direction(lm.getGoalDirection().name())
-                            .build())
-                    .collect(Collectors.toList());
-            return StreakResponse.builder().overallStreak(0).leadMeasureStreaks(emptyStreaks).build();
+    private DailyDataPageResponse getDailyDataPage(
+            Long wigId, LocalDate startDate, LocalDate endDate, String cursor, Integer size) {
+        wigOwnershipIndex.checkAccess(wigId);
+
+        int pageSize = pageSize(size);
+        LocalDate after = decodeCursor(cursor);
+        LocalDate from = after != null && !after.isBefore(startDate) ? after.plusDays(1) : startDate;
+        if (from.isAfter(endDate)) {
+            return DailyDataPageResponse.builder().hasNext(false).build();
         }
 
-        // date -> DailyData 맵
-        Map<LocalDate, DailyData> dataMap = allData.stream()
-                .collect(Collectors.toMap(DailyData::getDate, d -> d));
-
-        LocalDate today = LocalDate.now();
-        LocalDate mostRecentEntry = allData.stream()
-                .map(DailyData::getDate)
-                .max(Comparator.naturalOrder())
-                .orElse(today);
-
-        // 가장 최근 입력일이 2일 이상 전이면 streak 전부 0 (어제도 미입력 = 끊김)
-        long dayGap = java.time.temporal.ChronoUnit.DAYS.between(mostRecentEntry, today);
-        if (dayGap > 1) {
-            List<StreakResponse.LeadMeasureStreak> zeroStreaks = leadMeasures.stream()
-                    .map(lm -> StreakResponse.LeadMeasureStreak.builder()
-                            .leadMeasureId(lm.getId())
-                            .name(lm.getName())
-                            .currentStreak(0)
-                            .direction(lm.getGoalDirection().name())
-                            .build())
-                    .collect(Collectors.toList());
-            return StreakResponse.builder().overallStreak(0).leadMeasureStreaks(zeroStreaks).build();
+        List<LocalDate> dates = dailyDataRepository.findDatesByWigIdAndDateBetween(
+                wigId, from, endDate, Limit.of(pageSize + 1));
+        if (dates.isEmpty()) {
+            return DailyDataPageResponse.builder().hasNext(false).build();
         }
 
-        // lead measure별 streak 계산
-        List<StreakResponse.LeadMeasureStreak> streaks = new ArrayList<>();
-        for (LeadMeasure lm : leadMeasures) {
-            int streak = 0;
-
-            // 오늘 달성 여부 확인
-            DailyData todayData = dataMap.get(today);
-            boolean todayAchieved = false;
-            if (todayData != null) {
-                Double todayActual = getLeadValue(todayData, lm.getId());
-                todayAchieved = todayActual != null && (
-                        lm.getGoalDirection() == GoalDirection.MAXIMIZE
-                                ? todayActual >= lm.getDailyTarget()
-                                : todayActual <= lm.getDailyTarget()
-                );
-            }
+        boolean hasNext = dates.size() > pageSize;
+        LocalDate last = dates.get(Math.min(dates.size(), pageSize) - 1);
+        List<DailyDataResponse> content = DailyDataResponse.fromRows(
+                dailyDataRepository.findRowsByWigIdAndDateBetween(wigId, dates.get(0), last));
 
-            LocalDate date = todayAchieved ? today : today.minusDays(1);
-            while (true) {
-                if (date.isBefore(wigCreatedDate)) break;
-                DailyData data = dataMap.get(date);
-                if (data == null) break;
-                Double actual = getLeadValue(data, lm.getId());
-                if (actual == null) break;
-                boolean achieved = lm.getGoalDirection() == GoalDirection.MAXIMIZE
-                        ? actual >= lm.getDailyTarget()
-                        : actual <= lm.getDailyTarget();
-                if (!achieved) break;
-                streak++;
-                date = date.minusDays(1);
-            }
-            streaks.add(StreakResponse.LeadMeasureStreak.builder()
-                    .leadMeasureId(lm.getId())
-                    .name(lm.getName())
-                    .currentStreak(streak)
-                    .direction(lm.getGoalDirection().name())
-                    .build());
-        }
+        return DailyDataPageResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? encodeCursor(last) : null)
+                .hasNext(hasNext)
+                .build();
+    }
 
-        // 전체 동시달성 streak 계산
-        boolean todayAllAchieved = false;
-        DailyData todayDataForOverall = dataMap.get(today);
-        if (todayDataForOverall != null) {
-            todayAllAchieved = true;
-            for (LeadMeasure lm : leadMeasures) {
-                if (today.isBefore(wigCreatedDate)) continue;
-                Double actual = getLeadValue(todayDataForOverall, lm.getId());
-                if (actual == null) { todayAllAchieved = false; break; }
-                boolean achieved = lm.getGoalDirection() == GoalDirection.MAXIMIZE
-                        ? actual >= lm.getDailyTarget()
-                        : actual <= lm.getDailyTarget();
-                if (!achieved) { todayAllAchieved = false; break; }
-            }
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
         }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
 
-        int overallStreak = 0;
-        LocalDate date = todayAllAchieved ? today : today.minusDays(1);
-        while (true) {
-            DailyData data = dataMap.get(date);
-            if (data == null) break;
-            boolean allAchieved = true;
-            boolean anyChecked = false;
-            for (LeadMeasure lm : leadMeasures) {
-                if (date.isBefore(wigCreatedDate)) continue;
-                anyChecked = true;
-                Double actual = getLeadValue(data, lm.getId());
-                if (actual == null) { allAchieved = false; break; }
-                boolean achieved = lm.getGoalDirection() == GoalDirection.MAXIMIZE
-                        ? actual >= lm.getDailyTarget()
-                        : actual <= lm.getDailyTarget();
-                if (!achieved) { allAchieved = false; break; }
-            }
-            if (!allAchieved || !anyChecked) break;
-            overallStreak++;
-            date = date.minusDays(1);
+    /**
+     * 커서 = 마지막으로 받은 날짜 (Base64 URL 인코딩)
+     */
+    private String encodeCursor(LocalDate lastDate) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(lastDate.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private LocalDate decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
         }
+        try {
+            return LocalDate.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
 
-        return StreakResponse.builder()
-                .overallStreak(overallStreak)
-                .leadMeasureStreaks(streaks)
-                .build();
+    /**
+     * 특정 WIG의 연속달성(Streak) 조회
+     * 일간 데이터 변경 시 갱신되는 streak 프로젝션에서 읽음
+     */
+    public StreakResponse getStreak(Long wigId) {
+        return streakService.getStreak(wigId);
     }
 
     /**
-     * DailyData에서 특정 leadMeasureId의 값을 조회
-     * 정규화된 DailyLeadData에서 FK로 직접 조회
+     * 특정 WIG의 기간별 달성 캘린더 조회
      */
-    private Double getLeadValue(DailyData data, Long leadMeasureId) {
-        return data.getLeadValues().stream()
-                .filter(dld -> dld.getLeadMeasure().getId().equals(leadMeasureId))
-                .map(DailyLeadData::getValue)
-                .findFirst()
-                .orElse(null);
+    public AchievementCalendarResponse getAchievementCalendar(Long wigId, LocalDate startDate, LocalDate endDate) {
+        return streakService.getAchievementCalendar(wigId, startDate, endDate);
     }
 
     /**
@@ -235,6 +204,8 @@ public class DailyDataService {
     public DailyDataResponse createDailyData(DailyDataRequest request) {
         log.info("일간 데이터 생성: wigId={}, date={}", request.getWigId(), request.getDate());
 
+        DailyData.checkDate(request.getDate());
+        wigOwnershipIndex.checkAccess(request.getWigId());
         Wig wig = wigRepository.findById(request.getWigId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 WIG를 찾을 수 없습니다: " + request.getWigId()));
@@ -273,11 +244,80 @@ public class DailyDataService {
         }
 
         DailyData savedDailyData = dailyDataRepository.save(dailyData);
+        eventPublisher.publishEvent(WigDataChangedEvent.dailyData(wig.getId(), savedDailyData.getId(),
+                savedDailyData.getDate(), savedDailyData.getWeek(), ChangeType.CREATED));
         log.info("일간 데이터 생성 완료: id={}", savedDailyData.getId());
 
         return DailyDataResponse.from(savedDailyData);
     }
 
+    /**
+     * 특정 WIG의 특정 날짜 일간 데이터 upsert (없으면 생성, 있으면 교체)
+     * 존재 여부를 먼저 조회하지 않고 DB upsert 문으로 처리하므로 동시 저장에도 충돌 없음
+     * WIG/Lead Measure를 미리 읽지 않음: 소유 확인은 WigOwnershipIndex, 리드매셔 소속은 upsert 문의 조인으로 확인
+     */
+    @Transactional
+    public DailyDataResponse upsertDailyData(Long wigId, LocalDate date, DailyDataUpsertRequest request) {
+        log.info("일간 데이터 upsert: wigId={}, date={}", wigId, date);
+
+        DailyData.checkDate(date);
+        wigOwnershipIndex.checkAccess(wigId);
+
+        Map<Long, Double> leadValues = request.getLeadValues() != null ? request.getLeadValues() : Map.of();
+        Set<Long> rejected;
+        try {
+            rejected = dailyDataUpsertRepository.upsert(
+                    wigId, date, request.getWeek(), request.getDayOfWeek(), leadValues);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
+        }
+        if (!rejected.isEmpty()) {
+            // 예외로 트랜잭션이 롤백되므로 일부만 저장된 상태는 남지 않음
+            throw new IllegalArgumentException("해당 Lead Measure를 찾을 수 없습니다: " + rejected.iterator().next());
+        }
+
+        DailyDataResponse response = DailyDataResponse.fromRows(
+                dailyDataRepository.findRowsByWigIdAndDateBetween(wigId, date, date)).get(0);
+        eventPublisher.publishEvent(WigDataChangedEvent.dailyData(wigId, response.getId(), date, response.getWeek(),
+                ChangeType.UPDATED));
+        return response;
+    }
+
+    /**
+     * 특정 날짜의 리드매셔 실적 하나만 저장 (일간 데이터가 없으면 생성)
+     * 일간 데이터 엔티티를 읽지 않고 upsert 문 2개로 저장, 응답은 요청 값으로 만들고 다시 읽지 않음
+     * streak 프로젝션은 커밋 후 StreakProjectionUpdater가 반영
+     */
+    @Transactional
+    public LeadValueResponse patchLeadValue(Long wigId, LocalDate date, Long leadMeasureId,
+                                            LeadValuePatchRequest request) {
+        log.info("리드매셔 실적 저장: wigId={}, date={}, leadMeasureId={}", wigId, date, leadMeasureId);
+
+        DailyData.checkDate(date);
+        wigOwnershipIndex.checkAccess(wigId);
+        boolean written;
+        try {
+            written = dailyDataUpsertRepository.upsertLeadValue(
+                    wigId, date, request.getWeek(), request.getDayOfWeek(), leadMeasureId, request.getValue());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
+        }
+        if (!written) {
+            throw new IllegalArgumentException(String.format(
+                    "WIG %d의 %s 일간 데이터 또는 Lead Measure %d를 찾을 수 없습니다 (새 날짜는 week 필요)",
+                    wigId, date, leadMeasureId));
+        }
+
+        eventPublisher.publishEvent(WigDataChangedEvent.dailyData(wigId, null, date, request.getWeek(),
+                ChangeType.UPDATED));
+        return LeadValueResponse.builder()
+                .wigId(wigId)
+                .date(date)
+                .leadMeasureId(leadMeasureId)
+                .value(request.getValue())
+                .build();
+    }
+
     /**
      * 일간 데이터 수정
      */
@@ -285,11 +325,15 @@ public class DailyDataService {
     public DailyDataResponse updateDailyData(Long id, DailyDataRequest request) {
         log.info("일간 데이터 수정: id={}", id);
 
+        DailyData.checkDate(request.getDate());
         DailyData dailyData = dailyDataRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 일간 데이터를 찾을 수 없습니다: " + id));
+        wigOwnershipIndex.checkAccess(dailyData.getWig().getId());
 
         // 기본 필드 수정
+        LocalDate previousDate = dailyData.getDate();
+        String previousWeek = dailyData.getWeek();
         dailyData.setDate(request.getDate());
         dailyData.setWeek(request.getWeek());
         dailyData.setDayOfWeek(request.getDayOfWeek());
@@ -298,26 +342,28 @@ public class DailyDataService {
         Map<Long, LeadMeasure> leadMeasureMap = leadMeasureRepository.findByWigId(dailyData.getWig().getId())
                 .stream().collect(Collectors.toMap(LeadMeasure::getId, lm -> lm));
 
-        // 기존 leadValues를 교체 (orphanRemoval=true로 기존 것은 자동 삭제)
-        dailyData.getLeadValues().clear();
-        entityManager.flush(); // DELETE를 먼저 실행하여 unique constraint 위반 방지
-        if (request.getLeadValues() != null) {
-            for (Map.Entry<Long, Double> entry : request.getLeadValues().entrySet()) {
-                LeadMeasure lm = leadMeasureMap.get(entry.getKey());
-                if (lm == null) {
-                    throw new IllegalArgumentException("해당 Lead Measure를 찾을 수 없습니다: " + entry.getKey());
-                }
-                DailyLeadData dld = DailyLeadData.builder()
-                        .dailyData(dailyData)
-                        .leadMeasure(lm)
-                        .value(entry.getValue())
-                        .build();
-                dailyData.getLeadValues().add(dld);
-            }
+        // 기존 leadValues와 비교해 바뀐 것만 반영, 실적만 바뀌어도 상위 행 updatedAt 갱신 → ETag 변경
+        LocalDateTime touchedAt = null;
+        if (updateLeadValues(dailyData, leadMeasureMap, request.getLeadValues())) {
+            touchedAt = LocalDateTime.now();
+            dailyDataRepository.touch(id, touchedAt);
         }
 
+        // 날짜가 바뀌었으면 이전 날짜도 변경으로 알림 (streak 프로젝션은 두 날짜 모두 다시 반영)
+        Long wigId = dailyData.getWig().getId();
+        if (!previousDate.equals(dailyData.getDate())) {
+            eventPublisher.publishEvent(WigDataChangedEvent.dailyData(wigId, id, previousDate, previousWeek,
+                    ChangeType.UPDATED));
+        }
+        eventPublisher.publishEvent(WigDataChangedEvent.dailyData(wigId, id, dailyData.getDate(), dailyData.getWeek(),
+                ChangeType.UPDATED));
+
         log.info("일간 데이터 수정 완료: id={}", id);
-        return DailyDataResponse.from(dailyData);
+        DailyDataResponse response = DailyDataResponse.from(dailyData);
+        if (touchedAt != null) {
+            response.setUpdatedAt(touchedAt);
+        }
+        return response;
     }
 
     /**
@@ -327,12 +373,65 @@ public class DailyDataService {
     public void deleteDailyData(Long id) {
         log.info("일간 데이터 삭제: id={}", id);
 
-        if (!dailyDataRepository.existsById(id)) {
-            throw new IllegalArgumentException("해당 일간 데이터를 찾을 수 없습니다: " + id);
-        }
+        DailyData dailyData = dailyDataRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "해당 일간 데이터를 찾을 수 없습니다: " + id));
+        Long wigId = dailyData.getWig().getId();
+        wigOwnershipIndex.checkAccess(wigId);
+        LocalDate date = dailyData.getDate();
+        String week = dailyData.getWeek();
 
-        dailyDataRepository.deleteById(id);
+        dailyDataRepository.delete(dailyData);
+        eventPublisher.publishEvent(WigDataChangedEvent.dailyData(wigId, id, date, week, ChangeType.DELETED));
         log.info("일간 데이터 삭제 완료: id={}", id);
     }
 
+    /**
+     * 리드매셔 실적 diff 반영
+     * - 값이 바뀐 실적: 기존 행 UPDATE
+     * - 요청에 없는 실적: 삭제 (orphanRemoval)
+     * - 새 리드매셔 실적: INSERT
+     * 값 하나만 바꾸면 UPDATE 한 번으로 끝남
+     *
+     * @return 실적이 하나라도 바뀌었는지
+     */
+    private boolean updateLeadValues(DailyData dailyData, Map<Long, LeadMeasure> leadMeasureMap, Map<Long, Double> requested) {
+        Map<Long, Double> values = requested != null ? requested : Map.of();
+        for (Long leadMeasureId : values.keySet()) {
+            if (!leadMeasureMap.containsKey(leadMeasureId)) {
+                throw new IllegalArgumentException("해당 Lead Measure를 찾을 수 없습니다: " + leadMeasureId);
+            }
+        }
+
+        boolean changed = false;
+        Set<Long> existing = new HashSet<>();
+        Iterator<DailyLeadData> iterator = dailyData.getLeadValues().iterator();
+        while (iterator.hasNext()) {
+            DailyLeadData dld = iterator.next();
+            Long leadMeasureId = dld.getLeadMeasure().getId();
+            if (!values.containsKey(leadMeasureId)) {
+                iterator.remove();
+                changed = true;
+                continue;
+            }
+            existing.add(leadMeasureId);
+            Double value = values.get(leadMeasureId);
+            if (!Objects.equals(dld.getValue(), value)) {
+                dld.setValue(value);
+                changed = true;
+            }
+        }
+
+        for (Map.Entry<Long, Double> entry : values.entrySet()) {
+            if (!existing.contains(entry.getKey())) {
+                dailyData.getLeadValues().add(DailyLeadData.builder()
+                        .dailyData(dailyData)
+                        .leadMeasure(leadMeasureMap.get(entry.getKey()))
+                        .value(entry.getValue())
+                        .build());
+                changed = true;
+            }
+        }
+        return changed;
+    }
 }
@@ -0,0 +1,196 @@
+package com.fdx.backend.domain.dailydata;
+
+import com.fdx.backend.domain.IsoWeek;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * (wig_id, date) 기준 일간 데이터 upsert (JDBC)
+ *
+ * 존재 여부를 먼저 조회하지 않고 DB의 insert-or-update 문 한 번으로 처리
+ * → 두 기기에서 같은 날짜를 동시에 저장해도 unique 제약 위반(409) 없이 마지막 값으로 수렴
+ *
+ * - MySQL: INSERT ... AS new ON DUPLICATE KEY UPDATE (8.0.19+ 행 별칭, VALUES() 함수는 deprecated)
+ * - H2: MERGE INTO ... USING ... WHEN MATCHED / WHEN NOT MATCHED
+ */
+@Repository
+@Slf4j
+public class DailyDataUpsertRepository {
+
+    private static final String MYSQL_UPSERT_DAILY_DATA =
+            "INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at) "
+                    + "VALUES (:date, :week, :weekKey, :dayOfWeek, :wigId, :now, :now) AS new "
+                    + "ON DUPLICATE KEY UPDATE week = new.week, day_of_week = new.day_of_week, "
+                    + "updated_at = new.updated_at";
+
+    private static final String H2_UPSERT_DAILY_DATA =
+            "MERGE INTO daily_data t "
+                    + "USING (VALUES (CAST(:wigId AS BIGINT), CAST(:date AS DATE), CAST(:week AS VARCHAR), "
+                    + "CAST(:weekKey AS INT), CAST(:dayOfWeek AS VARCHAR), CAST(:now AS TIMESTAMP))) "
+                    + "s(wig_id, date, week, week_key, day_of_week, now) "
+                    + "ON t.wig_id = s.wig_id AND t.date = s.date "
+                    + "WHEN MATCHED THEN UPDATE SET week = s.week, day_of_week = s.day_of_week, updated_at = s.now "
+                    + "WHEN NOT MATCHED THEN INSERT (date, week, week_key, day_of_week, wig_id, created_at, updated_at) "
+                    + "VALUES (s.date, s.week, s.week_key, s.day_of_week, s.wig_id, s.now, s.now)";
+
+    // 일간 데이터가 없을 때만 생성, 있으면 updated_at만 갱신
+    private static final String MYSQL_TOUCH_DAILY_DATA =
+            "INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at) "
+                    + "VALUES (:date, :week, :weekKey, :dayOfWeek, :wigId, :now, :now) AS new "
+                    + "ON DUPLICATE KEY UPDATE updated_at = new.updated_at";
+
+    private static final String H2_TOUCH_DAILY_DATA =
+            "MERGE INTO daily_data t "
+                    + "USING (VALUES (CAST(:wigId AS BIGINT), CAST(:date AS DATE), CAST(:week AS VARCHAR), "
+                    + "CAST(:weekKey AS INT), CAST(:dayOfWeek AS VARCHAR), CAST(:now AS TIMESTAMP))) "
+                    + "s(wig_id, date, week, week_key, day_of_week, now) "
+                    + "ON t.wig_id = s.wig_id AND t.date = s.date "
+                    + "WHEN MATCHED THEN UPDATE SET updated_at = s.now "
+                    + "WHEN NOT MATCHED THEN INSERT (date, week, week_key, day_of_week, wig_id, created_at, updated_at) "
+                    + "VALUES (s.date, s.week, s.week_key, s.day_of_week, s.wig_id, s.now, s.now)";
+
+    private static final String UPDATE_DAILY_DATA_TIMESTAMP =
+            "UPDATE daily_data SET updated_at = :now WHERE wig_id = :wigId AND date = :date";
+
+    // 리드매셔가 해당 WIG 소속이고 삭제 중이 아닐 때만 행이 생기도록 lead_measures와 조인 (검증 조회 불필요)
+    // INSERT ... SELECT에는 행 별칭을 쓸 수 없으므로 같은 파라미터를 다시 바인딩
+    private static final String MYSQL_UPSERT_LEAD_VALUE =
+            "INSERT INTO daily_lead_data (daily_data_id, lead_measure_id, lead_value) "
+                    + "SELECT d.id, lm.id, :value FROM daily_data d "
+                    + "JOIN lead_measures lm ON lm.id = :leadMeasureId AND lm.wig_id = d.wig_id AND lm.deleted_at IS NULL "
+                    + "WHERE d.wig_id = :wigId AND d.date = :date "
+                    + "ON DUPLICATE KEY UPDATE lead_value = :value";
+
+    private static final String H2_UPSERT_LEAD_VALUE =
+            "MERGE INTO daily_lead_data t "
+                    + "USING (SELECT d.id AS daily_data_id, lm.id AS lead_measure_id, "
+                    + "CAST(:value AS DOUBLE PRECISION) AS lead_value FROM daily_data d "
+                    + "JOIN lead_measures lm ON lm.id = :leadMeasureId AND lm.wig_id = d.wig_id AND lm.deleted_at IS NULL "
+                    + "WHERE d.wig_id = :wigId AND d.date = :date) s "
+                    + "ON t.daily_data_id = s.daily_data_id AND t.lead_measure_id = s.lead_measure_id "
+                    + "WHEN MATCHED THEN UPDATE SET lead_value = s.lead_value "
+                    + "WHEN NOT MATCHED THEN INSERT (daily_data_id, lead_measure_id, lead_value) "
+                    + "VALUES (s.daily_data_id, s.lead_measure_id, s.lead_value)";
+
+    // 요청에 없는 리드매셔 실적 삭제 (PUT = 해당 날짜 전체 교체)
+    private static final String DELETE_OTHER_LEAD_VALUES =
+            "DELETE FROM daily_lead_data WHERE daily_data_id = "
+                    + "(SELECT d.id FROM daily_data d WHERE d.wig_id = :wigId AND d.date = :date) "
+                    + "AND lead_measure_id NOT IN (:leadMeasureIds)";
+
+    private static final String DELETE_ALL_LEAD_VALUES =
+            "DELETE FROM daily_lead_data WHERE daily_data_id = "
+                    + "(SELECT d.id FROM daily_data d WHERE d.wig_id = :wigId AND d.date = :date)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean mysql;
+
+    public DailyDataUpsertRepository(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mysql = isMySql(dataSource);
+    }
+
+    /**
+     * 특정 WIG의 특정 날짜 일간 데이터를 통째로 upsert
+     * daily_data 1문장 + 리드매셔 실적 batch 1번 + 나머지 실적 삭제 1문장
+     *
+     * @return WIG 소속이 아니거나 삭제 중이라서 저장되지 않은 리드매셔 ID (비어 있으면 전부 반영)
+     */
+    public Set<Long> upsert(Long wigId, LocalDate date, String week, String dayOfWeek, Map<Long, Double> leadValues) {
+        Date sqlDate = Date.valueOf(date);
+
+        jdbcTemplate.update(mysql ? MYSQL_UPSERT_DAILY_DATA : H2_UPSERT_DAILY_DATA, new MapSqlParameterSource()
+                .addValue("date", sqlDate)
+                .addValue("week", week)
+                .addValue("weekKey", IsoWeek.keyOf(date))
+                .addValue("dayOfWeek", dayOfWeek)
+                .addValue("wigId", wigId)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+
+        MapSqlParameterSource dayParams = new MapSqlParameterSource()
+                .addValue("wigId", wigId)
+                .addValue("date", sqlDate);
+
+        if (leadValues.isEmpty()) {
+            jdbcTemplate.update(DELETE_ALL_LEAD_VALUES, dayParams);
+            return Set.of();
+        }
+
+        List<Long> leadMeasureIds = new ArrayList<>(leadValues.keySet());
+        SqlParameterSource[] leadParams = leadMeasureIds.stream()
+                .map(leadMeasureId -> new MapSqlParameterSource()
+                        .addValue("wigId", wigId)
+                        .addValue("date", sqlDate)
+                        .addValue("leadMeasureId", leadMeasureId)
+                        .addValue("value", leadValues.get(leadMeasureId)))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(mysql ? MYSQL_UPSERT_LEAD_VALUE : H2_UPSERT_LEAD_VALUE, leadParams);
+
+        // 조인에 걸리지 않은 (다른 WIG의) 리드매셔는 0행, 드라이버가 건수를 모르면 SUCCESS_NO_INFO
+        Set<Long> rejected = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                rejected.add(leadMeasureIds.get(i));
+            }
+        }
+        if (rejected.isEmpty()) {
+            jdbcTemplate.update(DELETE_OTHER_LEAD_VALUES, dayParams.addValue("leadMeasureIds", leadValues.keySet()));
+        }
+        return rejected;
+    }
+
+    /**
+     * 특정 날짜의 리드매셔 실적 하나만 upsert (상위 일간 데이터 엔티티를 읽지 않음)
+     * 상위 daily_data 문장 1번 + daily_lead_data 문장 1번
+     *
+     * @param week 일간 데이터가 없을 때 생성에 사용 (null이면 기존 일간 데이터가 있어야 함)
+     * @return 반영 여부 (false: 일간 데이터가 없거나 리드매셔가 WIG 소속이 아님 / 삭제 중)
+     */
+    public boolean upsertLeadValue(Long wigId, LocalDate date, String week, String dayOfWeek,
+                                   Long leadMeasureId, Double value) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("wigId", wigId)
+                .addValue("date", Date.valueOf(date))
+                .addValue("week", week)
+                .addValue("weekKey", IsoWeek.keyOf(date))
+                .addValue("dayOfWeek", dayOfWeek)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+                .addValue("leadMeasureId", leadMeasureId)
+                .addValue("value", value);
+
+        if (week != null) {
+            jdbcTemplate.update(mysql ? MYSQL_TOUCH_DAILY_DATA : H2_TOUCH_DAILY_DATA, params);
+        } else if (jdbcTemplate.update(UPDATE_DAILY_DATA_TIMESTAMP, params) == 0) {
+            return false;
+        }
+        return jdbcTemplate.update(mysql ? MYSQL_UPSERT_LEAD_VALUE : H2_UPSERT_LEAD_VALUE, params) > 0;
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            String name = product.toLowerCase();
+            return name.contains("mysql") || name.contains("mariadb");
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류 확인 실패, H2 문법으로 upsert 합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -10,7 +10,8 @@ import lombok.*;
  */
 @Entity
 @Table(name = "daily_lead_data",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"daily_data_id", "lead_measure_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"daily_data_id", "lead_measure_id"}),
+        indexes = @Index(name = "idx_daily_lead_data_lead_measure", columnList = "lead_measure_id")) // Lead Measure 삭제
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,8 +1,13 @@
 package com.fdx.backend.domain.dailydata;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,5 +20,16 @@ public interface DailyLeadDataRepository extends JpaRepository<DailyLeadData, Lo
 
     void deleteByDailyDataId(Long dailyDataId);
 
-    void deleteByLeadMeasureId(Long leadMeasureId);
+    /**
+     * 특정 Lead Measure의 실적 id limit개 (청크 삭제용)
+     */
+    @Query("SELECT dld.id FROM DailyLeadData dld WHERE dld.leadMeasure.id = :leadMeasureId")
+    List<Long> findIdsByLeadMeasureId(@Param("leadMeasureId") Long leadMeasureId, Limit limit);
+
+    /**
+     * 여러 일간 데이터의 리드매셔 실적을 한 문장으로 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM DailyLeadData dld WHERE dld.dailyData.id IN :dailyDataIds")
+    int deleteByDailyDataIdIn(@Param("dailyDataIds") Collection<Long> dailyDataIds);
 }
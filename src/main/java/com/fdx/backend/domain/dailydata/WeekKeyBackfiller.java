@@ -0,0 +1,58 @@
+package com.fdx.backend.domain.dailydata;
+
+import com.fdx.backend.domain.commitment.CommitmentRepository;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
+import com.fdx.backend.domain.event.WigDataChangedEvent.EntityType;
+import com.fdx.backend.domain.weeklydata.WeeklyDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일간 데이터보다 먼저 만들어진 주간 데이터 / Commitment의 주차 키(weekKey) 채우기
+ *
+ * date 없이 주차 라벨만으로 만든 행은 같은 라벨의 일간 데이터가 없으면 weekKey가 null
+ * → 일간 데이터 저장 이벤트를 커밋 후 받아 새 트랜잭션에서 같은 라벨의 null 주차 키만 채움
+ * - 값은 이벤트가 아니라 저장된 일간 데이터에서 가져옴 (기존 날짜에 다른 라벨을 보내도 라벨이 바뀌지 않으므로)
+ * - 날짜와 라벨을 아는 저장: 그 라벨만 (UPDATE 2문장, 채울 행이 없으면 인덱스 조회만)
+ * - 일괄 생성처럼 날짜를 모르는 저장: WIG 전체에서 일간 데이터가 있는 라벨
+ * - 라벨 없이 기존 일간 데이터만 바꾼 저장 (실적 PATCH 등)은 새 라벨이 생기지 않으므로 건너뜀
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WeekKeyBackfiller {
+
+    private final WeeklyDataRepository weeklyDataRepository;
+    private final CommitmentRepository commitmentRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onWigDataChanged(WigDataChangedEvent event) {
+        if (event.entityType() != EntityType.DAILY_DATA || event.changeType() == ChangeType.DELETED) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int filled;
+        if (event.date() == null) {
+            filled = weeklyDataRepository.fillWeekKeysByWigId(event.wigId(), now)
+                    + commitmentRepository.fillWeekKeysByWigId(event.wigId(), now);
+        } else if (event.week() != null) {
+            filled = weeklyDataRepository.fillWeekKey(event.wigId(), event.week(), now)
+                    + commitmentRepository.fillWeekKey(event.wigId(), event.week(), now);
+        } else {
+            return;
+        }
+
+        if (filled > 0) {
+            log.info("WIG {}의 주간 데이터/Commitment 주차 키 {}건 채움", event.wigId(), filled);
+        }
+    }
+}
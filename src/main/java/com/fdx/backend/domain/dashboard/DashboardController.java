@@ -0,0 +1,54 @@
+package com.fdx.backend.domain.dashboard;
+
+import com.fdx.backend.dto.DashboardResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dashboard REST API Controller
+ *
+ * API 엔드포인트:
+ * GET    /api/dashboard?week={week}&date={date}   - 현재 사용자의 홈 화면 데이터 한 번에 조회
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 홈 화면 대시보드 조회
+     * GET /api/dashboard?week=W5
+     * GET /api/dashboard?week=W5&date=2025-02-03
+     *
+     * date가 속한 주(월~일)의 일간 데이터, week 주차의 주간 데이터/Commitments를 WIG별로 반환
+     */
+    @GetMapping("/api/dashboard")
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @RequestParam(required = false) String week,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.info("GET /api/dashboard - 대시보드 조회 요청: week={}, date={}", week, date);
+        DashboardResponse dashboard = dashboardService.getDashboard(week, date != null ? date : LocalDate.now());
+        return ResponseEntity.ok(dashboard);
+    }
+
+    /**
+     * 예외 처리
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(
+            IllegalArgumentException e) {
+        log.error("요청 처리 중 오류 발생: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.badRequest().body(error);
+    }
+}
@@ -0,0 +1,176 @@
+package com.fdx.backend.domain.dashboard;
+
+import com.fdx.backend.domain.MeasureType;
+import com.fdx.backend.domain.commitment.CommitmentRepository;
+import com.fdx.backend.domain.dailydata.DailyDataRepository;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.milestone.MilestoneRepository;
+import com.fdx.backend.domain.streak.StreakService;
+import com.fdx.backend.domain.weeklydata.WeeklyDataRepository;
+import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigRepository;
+import com.fdx.backend.dto.*;
+import com.fdx.backend.security.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 화면 대시보드 Service
+ *
+ * 홈 화면이 WIG마다 따로 호출하던 조회(lead measures, 이번 주 일간/주간 데이터, commitments + 이행률,
+ * milestone 진행률, streak)를 한 번에 모아서 반환
+ *
+ * - 현재 사용자의 WIG 목록 조회 후, WIG별 조회들을 가상 스레드에서 병렬 실행
+ * - 각 조회는 SQL 1번 (streak만 2번), 이행률/진행률은 조회한 목록으로 메모리에서 계산
+ *   → 쿼리 수 = 1 + QUERIES_PER_WIG × WIG 수 (데이터 양과 무관)
+ * - streak는 프로젝션만 읽음 (달성 인덱스를 만들지 않음), 프로젝션이 아직 없으면 null로 응답하고
+ *   백그라운드 재계산 → 프로젝션 상태와 무관하게 비용이 같음
+ * - WIG 목록을 현재 사용자 ID로 조회하므로 별도 권한 체크 불필요
+ *
+ * 병렬 작업은 요청 스레드의 트랜잭션/인증 정보를 쓰지 않음 (각 리포지토리 호출이 자체 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService {
+
+    /** WIG 하나당 실행되는 SQL 수 (streak 프로젝션 유무와 무관) */
+    static final int QUERIES_PER_WIG = 7;
+
+    // 한 요청이 동시에 잡는 DB 커넥션 수 제한 (풀 크기 10)
+    private static final int MAX_CONCURRENT_TASKS = 4;
+
+    private final CurrentUser currentUser;
+    private final WigRepository wigRepository;
+    private final LeadMeasureRepository leadMeasureRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final DailyDataRepository dailyDataRepository;
+    private final WeeklyDataRepository weeklyDataRepository;
+    private final CommitmentRepository commitmentRepository;
+    private final StreakService streakService;
+
+    /**
+     * 현재 사용자의 대시보드 조회
+     *
+     * @param week 주차 (주간 데이터/Commitments 조회용, null이면 생략)
+     * @param date 이번 주를 정할 기준 날짜 (월~일 일간 데이터)
+     */
+    public DashboardResponse getDashboard(String week, LocalDate date) {
+        Long userId = currentUser.getId();
+        LocalDate weekStart = date.with(DayOfWeek.MONDAY);
+        LocalDate weekEnd = weekStart.plusDays(6);
+        log.info("사용자 {}의 대시보드 조회: week={}, {} ~ {}", userId, week, weekStart, weekEnd);
+
+        List<Wig> wigs = wigRepository.findByUserId(userId);
+
+        try (DashboardTaskScope scope = new DashboardTaskScope(MAX_CONCURRENT_TASKS)) {
+            List<Supplier<DashboardResponse.WigDashboard>> parts = new ArrayList<>();
+            for (Wig wig : wigs) {
+                parts.add(fork(scope, wig, week, weekStart, weekEnd));
+            }
+            scope.join();
+
+            return DashboardResponse.builder()
+                    .week(week)
+                    .weekStart(weekStart)
+                    .weekEnd(weekEnd)
+                    .wigs(parts.stream().map(Supplier::get).collect(Collectors.toList()))
+                    .build();
+        }
+    }
+
+    /**
+     * WIG 하나의 조회 작업들 시작, 반환된 Supplier는 join() 이후에 결과를 조립
+     */
+    private Supplier<DashboardResponse.WigDashboard> fork(DashboardTaskScope scope, Wig wig, String week,
+                                                          LocalDate weekStart, LocalDate weekEnd) {
+        Long wigId = wig.getId();
+
+        Supplier<List<LeadMeasureResponse>> leadMeasures = scope.fork(() ->
+                leadMeasureRepository.findByWigId(wigId).stream()
+                        .map(LeadMeasureResponse::from)
+                        .collect(Collectors.toList()));
+        Supplier<List<MilestoneResponse>> milestones = scope.fork(() ->
+                milestoneRepository.findByWigIdOrderByOrderIndexAsc(wigId).stream()
+                        .map(MilestoneResponse::from)
+                        .collect(Collectors.toList()));
+        Supplier<List<DailyDataResponse>> dailyData = scope.fork(() ->
+                DailyDataResponse.fromRows(
+                        dailyDataRepository.findRowsByWigIdAndDateBetween(wigId, weekStart, weekEnd)));
+        Supplier<WeeklyDataResponse> weeklyData = scope.fork(() -> week == null ? null
+                : WeeklyDataResponse.fromRows(weeklyDataRepository.findRowsByWigIdAndWeek(wigId, week)).stream()
+                        .findFirst()
+                        .orElse(null));
+        Supplier<List<CommitmentResponse>> commitments = scope.fork(() -> week == null ? List.of()
+                : commitmentRepository.findByWigIdAndWeek(wigId, week).stream()
+                        .map(CommitmentResponse::from)
+                        .collect(Collectors.toList()));
+        Supplier<StreakResponse> streak = scope.fork(() -> streakService.findStreak(wigId).orElse(null));
+
+        return () -> DashboardResponse.WigDashboard.builder()
+                .wig(WigResponse.builder()
+                        .id(wigId)
+                        .title(wig.getTitle())
+                        .fromX(wig.getFromX())
+                        .toY(wig.getToY())
+                        .byWhen(wig.getByWhen())
+                        .measureType(wig.getMeasureType())
+                        .unit(wig.getUnit())
+                        .leadMeasures(leadMeasures.get())
+                        .milestones(milestones.get())
+                        .createdAt(wig.getCreatedAt())
+                        .updatedAt(wig.getUpdatedAt())
+                        .build())
+                .dailyData(dailyData.get())
+                .weeklyData(weeklyData.get())
+                .commitments(commitments.get())
+                .commitmentRate(week == null ? null : commitmentRate(wigId, week, commitments.get()))
+                .milestoneProgress(wig.getMeasureType() == MeasureType.STATE
+                        ? milestoneProgress(milestones.get())
+                        : null)
+                .streak(streak.get())
+                .build();
+    }
+
+    /**
+     * CommitmentService.getCommitmentCompletionRate와 같은 형식
+     */
+    private Map<String, Object> commitmentRate(Long wigId, String week, List<CommitmentResponse> commitments) {
+        long total = commitments.size();
+        long completed = commitments.stream().filter(c -> Boolean.TRUE.equals(c.getCompleted())).count();
+        double completionRate = total > 0 ? (completed * 100.0 / total) : 0.0;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("wigId", wigId);
+        result.put("week", week);
+        result.put("total", total);
+        result.put("completed", completed);
+        result.put("completionRate", Math.round(completionRate * 10) / 10.0); // 소수 1자리로 반올림
+        return result;
+    }
+
+    /**
+     * MilestoneService.getMilestoneProgress와 같은 형식
+     */
+    private Map<String, Object> milestoneProgress(List<MilestoneResponse> milestones) {
+        long total = milestones.size();
+        long completed = milestones.stream().filter(m -> Boolean.TRUE.equals(m.getCompleted())).count();
+        double progressRate = total > 0 ? (completed * 100.0 / total) : 0.0;
+
+        Map<String, Object> progress = new HashMap<>();
+        progress.put("total", total);
+        progress.put("completed", completed);
+        progress.put("progressRate", Math.round(progressRate * 10) / 10.0); // 소수점 1자리
+        return progress;
+    }
+}
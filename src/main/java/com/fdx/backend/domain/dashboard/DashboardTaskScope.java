@@ -0,0 +1,99 @@
+package com.fdx.backend.domain.dashboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 조회 작업을 가상 스레드로 병렬 실행하는 스코프
+ *
+ * StructuredTaskScope.ShutdownOnFailure와 같은 방식으로 사용 (Java 21에서는 preview라 직접 구현)
+ * - fork()한 작업은 모두 이 스코프 안에서 끝남 (close() 시 남은 작업 취소 후 대기)
+ * - 작업 하나가 실패하면 나머지 작업을 바로 취소하고, join()이 그 예외를 던짐
+ * - 동시에 실행되는 작업 수를 제한해서 한 요청이 커넥션 풀을 독점하지 않게 함
+ */
+class DashboardTaskScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final List<Future<?>> futures = new ArrayList<>();
+    private volatile Throwable failure;
+
+    DashboardTaskScope(int maxConcurrentTasks) {
+        this.permits = new Semaphore(maxConcurrentTasks);
+    }
+
+    /**
+     * 작업 시작, 결과는 join() 이후에 get()으로 꺼냄
+     */
+    <T> Supplier<T> fork(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return task.call();
+                } catch (Throwable e) {
+                    fail(e);
+                    throw e;
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 이미 다른 작업이 실패해서 종료된 스코프 → join()이 원래 예외를 던짐
+            return () -> {
+                throw new IllegalStateException("실패한 스코프의 작업입니다", e);
+            };
+        }
+        futures.add(future); // fork()는 요청 스레드에서만 호출
+        return () -> {
+            try {
+                return future.resultNow();
+            } catch (IllegalStateException e) {
+                throw new IllegalStateException("join() 전에 결과를 꺼낼 수 없습니다", e);
+            }
+        };
+    }
+
+    /**
+     * 모든 작업 완료까지 대기, 실패한 작업이 있으면 그 예외를 던짐
+     */
+    void join() {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException | CancellationException e) {
+                break; // 실패 원인은 failure에 기록됨
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+                break;
+            }
+        }
+        Throwable cause = failure;
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        if (cause != null) {
+            throw new IllegalStateException("대시보드 조회 중 오류가 발생했습니다", cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        executor.close();
+    }
+
+    private synchronized void fail(Throwable e) {
+        if (failure == null) {
+            failure = e;
+            executor.shutdownNow(); // 실행 중/대기 중인 나머지 작업 인터럽트
+        }
+    }
+}
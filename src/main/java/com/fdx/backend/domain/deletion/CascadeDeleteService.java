@@ -0,0 +1,230 @@
+package com.fdx.backend.domain.deletion;
+
+import com.fdx.backend.domain.commitment.CommitmentRepository;
+import com.fdx.backend.domain.dailydata.DailyDataRepository;
+import com.fdx.backend.domain.dailydata.DailyLeadDataRepository;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
+import com.fdx.backend.domain.leadmeasure.LeadMeasure;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.milestone.MilestoneRepository;
+import com.fdx.backend.domain.streak.StreakService;
+import com.fdx.backend.domain.sync.SyncTombstoneRepository;
+import com.fdx.backend.domain.weeklydata.WeeklyDataRepository;
+import com.fdx.backend.domain.weeklydata.WeeklyLeadDataRepository;
+import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * WIG / Lead Measure / 사용자 삭제 파이프라인
+ *
+ * WIG와 사용자는 요청 시 삭제 표시(deleted_at)만 하고, 실제 삭제는 DeletionPurger가 이 파이프라인으로 처리
+ * Lead Measure는 삭제 표시를 먼저 커밋한 뒤 요청 안에서 바로 실적을 지우고, 중간에 실패하면 DeletionPurger가 이어서 지움
+ *
+ * CascadeType.ALL + orphanRemoval에 맡기면 자식 엔티티를 전부 메모리에 올려 한 행씩 DELETE 하므로,
+ * 대신 의존 순서대로 집합 단위 DELETE 문을 실행
+ *   daily_lead_data → daily_data → weekly_lead_data → weekly_data → commitments → milestones
+ *   → lead_measures → streak_states → wigs
+ *
+ * - 자식 행은 CHUNK_SIZE개씩 id를 읽어 DELETE ... WHERE id IN (...)로 지우고 청크마다 커밋
+ *   → 오래된 WIG라도 한 트랜잭션이 잡는 행 락과 힙 사용량이 청크 크기로 제한됨
+ * - 마지막 트랜잭션에서 그 사이 추가된 행을 한 번 더 지우고 상위 행 삭제
+ * - 중간에 실패해도 이미 지운 청크만 커밋된 상태라 같은 삭제를 다시 호출하면 이어서 지움
+ * - 자식 테이블은 JPQL 벌크 DELETE라 lead_measures 2차 캐시와 쿼리 캐시는 Hibernate가 무효화
+ * - 삭제 표시된 wigs / lead_measures / users 행은 @SQLRestriction 때문에 JPQL로 보이지 않으므로 마지막 행만 JDBC로 삭제
+ *   → wigs, lead_measures는 2차 캐시 대상이라 JDBC 삭제 후 해당 id를 직접 evict (HibernateCacheConfig 참고)
+ *
+ * 청크 트랜잭션이 바깥 트랜잭션에 합쳐지면 안 되므로 트랜잭션 밖에서 호출해야 함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CascadeDeleteService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final WigRepository wigRepository;
+    private final LeadMeasureRepository leadMeasureRepository;
+    private final DailyDataRepository dailyDataRepository;
+    private final DailyLeadDataRepository dailyLeadDataRepository;
+    private final WeeklyDataRepository weeklyDataRepository;
+    private final WeeklyLeadDataRepository weeklyLeadDataRepository;
+    private final CommitmentRepository commitmentRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final StreakService streakService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 삭제 표시된 WIG와 모든 하위 데이터 삭제 (삭제 이벤트는 삭제 요청 시 이미 발행됨)
+     *
+     * @param pause 청크 사이 대기 시간 (DB 부하 조절)
+     * @return 삭제한 하위 행 수
+     */
+    public long purgeWig(Long wigId, Duration pause) {
+        long start = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long deleted = deleteWigChildren(wigId, transactionTemplate, pause);
+        transactionTemplate.executeWithoutResult(status -> {
+            deleteWigChildren(wigId, transactionTemplate, Duration.ZERO); // 바깥 트랜잭션에 합류 (남은 행만)
+            leadMeasureRepository.deleteByWigId(wigId);
+            // 삭제 표시된 채 남은 Lead Measure는 JPQL로 보이지 않음 (실적은 위에서 WIG 단위로 이미 삭제)
+            jdbcTemplate.update("DELETE FROM lead_measures WHERE wig_id = ? AND deleted_at IS NOT NULL", wigId);
+            streakService.invalidate(wigId);
+            jdbcTemplate.update("DELETE FROM wigs WHERE id = ?", wigId);
+        });
+        entityManagerFactory.getCache().evict(Wig.class, wigId);
+
+        log.info("WIG {} 삭제: 하위 행 {}건, {}ms", wigId, deleted, (System.nanoTime() - start) / 1_000_000);
+        return deleted;
+    }
+
+    /**
+     * Lead Measure와 그 일간/주간 실적 삭제
+     *
+     * 삭제 표시 + 삭제 이벤트 + streak 재계산 요청을 먼저 커밋해서 바로 조회/저장/streak 계산에서 제외
+     * → 실적 청크 삭제 중에 실패해도 일부 실적만 남은 Lead Measure가 다시 보이지 않음
+     */
+    public void deleteLeadMeasure(Long wigId, Long leadMeasureId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (leadMeasureRepository.markDeleted(leadMeasureId, LocalDateTime.now()) == 0) {
+                throw new IllegalArgumentException("해당 Lead Measure를 찾을 수 없습니다: " + leadMeasureId);
+            }
+            streakService.invalidate(wigId); // 전체 동시달성 기준이 바뀌므로 streak 재계산
+            eventPublisher.publishEvent(WigDataChangedEvent.leadMeasure(wigId, leadMeasureId, ChangeType.DELETED));
+        });
+        purgeLeadMeasure(leadMeasureId);
+    }
+
+    /**
+     * 삭제 표시된 Lead Measure의 남은 실적과 행 삭제 (삭제 이벤트는 삭제 표시 때 이미 발행됨)
+     *
+     * @return 삭제한 실적 행 수
+     */
+    public long purgeLeadMeasure(Long leadMeasureId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long deleted = deleteLeadValues(leadMeasureId, transactionTemplate);
+        transactionTemplate.executeWithoutResult(status -> {
+            deleteLeadValues(leadMeasureId, transactionTemplate);
+            jdbcTemplate.update("DELETE FROM lead_measures WHERE id = ? AND deleted_at IS NOT NULL", leadMeasureId);
+        });
+        entityManagerFactory.getCache().evict(LeadMeasure.class, leadMeasureId);
+
+        log.info("Lead Measure {} 삭제: 실적 {}건", leadMeasureId, deleted);
+        return deleted;
+    }
+
+    /**
+     * 탈퇴한 사용자 계정과 소유한 모든 WIG 삭제 (삭제 표시 여부와 무관하게 남은 WIG 전부)
+     *
+     * @return 삭제한 하위 행 수
+     */
+    public long purgeUser(Long userId, Duration pause) {
+        long deleted = 0;
+        for (Long wigId : wigRepository.findAllIdsByUserId(userId)) {
+            deleted += purgeWig(wigId, pause);
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            syncTombstoneRepository.deleteByUserId(userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        });
+        log.info("사용자 {} 삭제 완료", userId);
+        return deleted;
+    }
+
+    private long deleteWigChildren(Long wigId, TransactionTemplate transactionTemplate, Duration pause) {
+        Limit chunk = Limit.of(CHUNK_SIZE);
+        long deleted = 0;
+        deleted += deleteInChunks(transactionTemplate, pause, () -> dailyDataRepository.findIdsByWigId(wigId, chunk),
+                ids -> {
+                    dailyLeadDataRepository.deleteByDailyDataIdIn(ids);
+                    dailyDataRepository.deleteAllByIdInBatch(ids);
+                });
+        deleted += deleteInChunks(transactionTemplate, pause, () -> weeklyDataRepository.findIdsByWigId(wigId, chunk),
+                ids -> {
+                    weeklyLeadDataRepository.deleteByWeeklyDataIdIn(ids);
+                    weeklyDataRepository.deleteAllByIdInBatch(ids);
+                });
+        deleted += deleteInChunks(transactionTemplate, pause, () -> commitmentRepository.findIdsByWigId(wigId, chunk),
+                commitmentRepository::deleteAllByIdInBatch);
+        deleted += deleteInChunks(transactionTemplate, pause, () -> milestoneRepository.findIdsByWigId(wigId, chunk),
+                milestoneRepository::deleteAllByIdInBatch);
+        return deleted;
+    }
+
+    /**
+     * 실적 청크를 지우기 전에 상위 일간/주간 데이터 updated_at을 갱신 (버전/ETag가 바뀌도록)
+     */
+    private long deleteLeadValues(Long leadMeasureId, TransactionTemplate transactionTemplate) {
+        Limit chunk = Limit.of(CHUNK_SIZE);
+        return deleteInChunks(transactionTemplate, Duration.ZERO,
+                () -> dailyLeadDataRepository.findIdsByLeadMeasureId(leadMeasureId, chunk),
+                ids -> {
+                    dailyDataRepository.touchByLeadDataIdIn(ids, LocalDateTime.now());
+                    dailyLeadDataRepository.deleteAllByIdInBatch(ids);
+                })
+                + deleteInChunks(transactionTemplate, Duration.ZERO,
+                () -> weeklyLeadDataRepository.findIdsByLeadMeasureId(leadMeasureId, chunk),
+                ids -> {
+                    weeklyDataRepository.touchByLeadDataIdIn(ids, LocalDateTime.now());
+                    weeklyLeadDataRepository.deleteAllByIdInBatch(ids);
+                });
+    }
+
+    /**
+     * id 조회 + 삭제를 청크마다 한 트랜잭션으로, 더 읽을 id가 없을 때까지 반복
+     * 청크가 꽉 찼으면 (더 남았으면) pause만큼 쉬고 다음 청크
+     *
+     * @return 삭제한 상위 행 수
+     */
+    private long deleteInChunks(TransactionTemplate transactionTemplate, Duration pause,
+                                Supplier<List<Long>> nextIds, Consumer<List<Long>> delete) {
+        long deleted = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = nextIds.get();
+                if (!ids.isEmpty()) {
+                    delete.accept(ids);
+                }
+                return ids.size();
+            });
+            deleted += count;
+            if (count < CHUNK_SIZE) {
+                return deleted;
+            }
+            pause(pause);
+        }
+    }
+
+    private static void pause(Duration pause) {
+        if (pause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("삭제 작업이 중단되었습니다", e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.fdx.backend.domain.deletion;
+
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.user.UserRepository;
+import com.fdx.backend.domain.wig.WigRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 삭제 표시된 WIG / 탈퇴 계정의 실제 데이터 정리 (백그라운드)
+ * 요청 안에서 실적 삭제가 실패해 삭제 표시된 채 남은 Lead Measure도 여기서 마저 지움
+ *
+ * 삭제 요청은 deleted_at만 기록하고 바로 응답하므로, 큰 WIG를 지우는 비용은 여기서 저부하 시간대에 치름
+ * - purge.cron 주기로 실행 (기본: 새벽 2~6시 10분마다)
+ * - 먼저 삭제 요청된 것부터 CascadeDeleteService로 청크 단위 삭제, 청크 사이 purge.chunk-pause만큼 쉼
+ * - 한 번 실행이 purge.max-run-time을 넘으면 다음 WIG부터는 다음 실행으로 미룸
+ * - 모든 서버에서 스케줄이 돌지만 JobLock을 잡은 한 서버만 실제로 정리 (같은 대상을 동시에 지우지 않음)
+ *
+ * 진행 상태를 따로 저장하지 않음: deleted_at 표시는 마지막 행 삭제와 함께 사라지고 청크는 커밋 단위라,
+ * 서버가 중간에 죽어도 다음 실행이 같은 대상을 남은 행부터 이어서 지움
+ *
+ * 메트릭
+ * - purge.pending{type}  : 정리 대기 중인 WIG / Lead Measure / 계정 수
+ * - purge.purged{type}   : 정리 완료한 WIG / Lead Measure / 계정 수
+ * - purge.rows           : 삭제한 하위 행 수
+ * - purge.failures{type} : 정리 실패 수 (다음 실행에서 재시도)
+ * - purge.run            : 실행 1회 소요 시간
+ */
+@Component
+@Slf4j
+public class DeletionPurger {
+
+    // 실행 1회에 가져오는 최대 대상 수 (실패한 대상이 같은 실행 안에서 반복 선택되지 않도록 한 번만 조회)
+    private static final int BATCH_SIZE = 100;
+
+    private static final String LOCK_NAME = "deletion-purger";
+
+    private final CascadeDeleteService cascadeDeleteService;
+    private final JobLock jobLock;
+    private final WigRepository wigRepository;
+    private final LeadMeasureRepository leadMeasureRepository;
+    private final UserRepository userRepository;
+    private final Duration chunkPause;
+    private final Duration maxRunTime;
+    private final Duration lockAtMost;
+
+    private final Counter purgedWigs;
+    private final Counter purgedLeadMeasures;
+    private final Counter purgedUsers;
+    private final Counter purgedRows;
+    private final Counter wigFailures;
+    private final Counter leadMeasureFailures;
+    private final Counter userFailures;
+    private final Timer runTimer;
+
+    public DeletionPurger(CascadeDeleteService cascadeDeleteService, JobLock jobLock, WigRepository wigRepository,
+                          LeadMeasureRepository leadMeasureRepository, UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${purge.chunk-pause:200ms}") Duration chunkPause,
+                          @Value("${purge.max-run-time:5m}") Duration maxRunTime,
+                          @Value("${purge.lock-at-most:30m}") Duration lockAtMost) {
+        this.cascadeDeleteService = cascadeDeleteService;
+        this.jobLock = jobLock;
+        this.wigRepository = wigRepository;
+        this.leadMeasureRepository = leadMeasureRepository;
+        this.userRepository = userRepository;
+        this.chunkPause = chunkPause;
+        this.maxRunTime = maxRunTime;
+        this.lockAtMost = lockAtMost;
+
+        Gauge.builder("purge.pending", wigRepository, WigRepository::countDeleted)
+                .tag("type", "wig")
+                .description("정리 대기 중인 삭제 WIG 수")
+                .register(meterRegistry);
+        Gauge.builder("purge.pending", leadMeasureRepository, LeadMeasureRepository::countDeleted)
+                .tag("type", "lead_measure")
+                .description("정리 대기 중인 삭제 Lead Measure 수")
+                .register(meterRegistry);
+        Gauge.builder("purge.pending", userRepository, UserRepository::countDeleted)
+                .tag("type", "user")
+                .description("정리 대기 중인 탈퇴 계정 수")
+                .register(meterRegistry);
+        this.purgedWigs = meterRegistry.counter("purge.purged", "type", "wig");
+        this.purgedLeadMeasures = meterRegistry.counter("purge.purged", "type", "lead_measure");
+        this.purgedUsers = meterRegistry.counter("purge.purged", "type", "user");
+        this.purgedRows = meterRegistry.counter("purge.rows");
+        this.wigFailures = meterRegistry.counter("purge.failures", "type", "wig");
+        this.leadMeasureFailures = meterRegistry.counter("purge.failures", "type", "lead_measure");
+        this.userFailures = meterRegistry.counter("purge.failures", "type", "user");
+        this.runTimer = meterRegistry.timer("purge.run");
+    }
+
+    /**
+     * 정리 실행 (락을 잡은 서버만, 락은 lockAtMost가 지나면 자동 만료)
+     */
+    @Scheduled(cron = "${purge.cron:0 */10 2-5 * * *}")
+    public void purge() {
+        if (!jobLock.tryLock(LOCK_NAME, lockAtMost)) {
+            log.debug("다른 서버가 삭제 데이터를 정리 중이라 이번 실행은 건너뜀");
+            return;
+        }
+        try {
+            purgeLocked();
+        } finally {
+            jobLock.unlock(LOCK_NAME);
+        }
+    }
+
+    /**
+     * 요청 중 실적 삭제에 실패하고 남은 Lead Measure를 가장 먼저 마저 지움
+     * 탈퇴 계정의 WIG도 삭제 표시되어 있으므로 WIG를 먼저 지우고, 계정 행은 그 다음에 지움
+     */
+    private void purgeLocked() {
+        Instant deadline = Instant.now().plus(maxRunTime);
+        runTimer.record(() -> {
+            int leadMeasures = purgeAll(leadMeasureRepository.findDeletedIds(BATCH_SIZE), deadline,
+                    cascadeDeleteService::purgeLeadMeasure, purgedLeadMeasures, leadMeasureFailures, "Lead Measure");
+            int wigs = purgeAll(wigRepository.findDeletedIds(BATCH_SIZE), deadline,
+                    id -> cascadeDeleteService.purgeWig(id, chunkPause), purgedWigs, wigFailures, "WIG");
+            int users = purgeAll(userRepository.findDeletedIds(BATCH_SIZE), deadline,
+                    id -> cascadeDeleteService.purgeUser(id, chunkPause), purgedUsers, userFailures, "계정");
+            if (leadMeasures + wigs + users > 0) {
+                log.info("삭제 데이터 정리: Lead Measure {}개, WIG {}개, 계정 {}개", leadMeasures, wigs, users);
+            }
+        });
+    }
+
+    /**
+     * @return 정리 완료한 대상 수
+     */
+    private int purgeAll(List<Long> ids, Instant deadline, LongUnaryOperator purge, Counter purged,
+                         Counter failures, String type) {
+        int done = 0;
+        for (Long id : ids) {
+            if (Instant.now().isAfter(deadline)) {
+                log.info("정리 시간 초과, 남은 {} {}개는 다음 실행에서 처리", type, ids.size() - done);
+                break;
+            }
+            try {
+                purgedRows.increment(purge.applyAsLong(id));
+                purged.increment();
+                done++;
+            } catch (RuntimeException e) {
+                // 이미 커밋된 청크는 그대로 두고 다음 실행에서 남은 행부터 재시도
+                log.warn("{} {} 정리 실패: {}", type, id, e.getMessage(), e);
+                failures.increment();
+            }
+        }
+        return done;
+    }
+}
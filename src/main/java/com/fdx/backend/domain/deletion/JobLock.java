@@ -0,0 +1,65 @@
+package com.fdx.backend.domain.deletion;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 여러 서버 중 한 서버만 @Scheduled 작업을 실행하도록 잡는 DB 락 (job_locks 테이블)
+ *
+ * - 락 행의 locked_until이 지났을 때만 조건부 UPDATE로 가져감 → 동시에 시도해도 1건만 성공
+ * - 시각은 DB 시계 기준 (서버 간 시계 차이 무관)
+ * - 실행 중 서버가 죽어도 lockAtMost가 지나면 다른 서버가 가져감
+ * - 락 행은 마이그레이션에서 미리 만들어 둠
+ */
+@Component
+@Slf4j
+public class JobLock {
+
+    private static final String TRY_LOCK =
+            "UPDATE job_locks SET locked_until = TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP(6)), locked_by = ? "
+                    + "WHERE name = ? AND locked_until <= LOCALTIMESTAMP(6)";
+
+    private static final String UNLOCK =
+            "UPDATE job_locks SET locked_until = LOCALTIMESTAMP(6) WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner; // 락을 잡은 서버 (호스트명 + 인스턴스 구분자)
+
+    public JobLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = hostName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * 락 획득 시도 (트랜잭션 밖에서 호출, 바로 커밋됨)
+     *
+     * @param lockAtMost 해제하지 못했을 때 락이 유지되는 최대 시간
+     * @return 획득 여부 (false: 다른 서버가 실행 중)
+     */
+    public boolean tryLock(String name, Duration lockAtMost) {
+        return jdbcTemplate.update(TRY_LOCK, lockAtMost.toSeconds(), owner, name) == 1;
+    }
+
+    /**
+     * 직접 잡은 락만 해제
+     */
+    public void unlock(String name) {
+        if (jdbcTemplate.update(UNLOCK, name, owner) == 0) {
+            log.warn("락 {}이 이미 만료되어 다른 서버가 가져갔습니다", name);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
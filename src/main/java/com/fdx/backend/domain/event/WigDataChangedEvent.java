@@ -0,0 +1,59 @@
+package com.fdx.backend.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * WIG 및 하위 데이터 변경 이벤트
+ *
+ * 각 Service가 쓰기 트랜잭션 안에서 발행하고, 구독자는 @TransactionalEventListener로
+ * 커밋 후에만 받음 (롤백된 변경은 전달되지 않음)
+ * → 캐시/프로젝션은 wigId + 날짜/주차 단위로 필요한 부분만 무효화
+ *
+ * @param wigId      변경된 데이터가 속한 WIG
+ * @param entityType 변경된 엔티티 종류
+ * @param changeType 생성/수정/삭제
+ * @param entityId   변경된 엔티티 ID (여러 건이면 null)
+ * @param date       영향받은 날짜 (일간 데이터만, null이면 날짜 특정 불가 → WIG 전체)
+ * @param week       영향받은 주차 (주차가 있는 데이터만, null이면 주차 특정 불가 → WIG 전체)
+ */
+public record WigDataChangedEvent(
+        Long wigId,
+        EntityType entityType,
+        ChangeType changeType,
+        Long entityId,
+        LocalDate date,
+        String week) {
+
+    public enum EntityType {
+        WIG, LEAD_MEASURE, DAILY_DATA, WEEKLY_DATA, COMMITMENT, MILESTONE
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static WigDataChangedEvent wig(Long wigId, ChangeType changeType) {
+        return new WigDataChangedEvent(wigId, EntityType.WIG, changeType, wigId, null, null);
+    }
+
+    public static WigDataChangedEvent leadMeasure(Long wigId, Long leadMeasureId, ChangeType changeType) {
+        return new WigDataChangedEvent(wigId, EntityType.LEAD_MEASURE, changeType, leadMeasureId, null, null);
+    }
+
+    public static WigDataChangedEvent dailyData(Long wigId, Long dailyDataId, LocalDate date, String week,
+                                                ChangeType changeType) {
+        return new WigDataChangedEvent(wigId, EntityType.DAILY_DATA, changeType, dailyDataId, date, week);
+    }
+
+    public static WigDataChangedEvent weeklyData(Long wigId, Long weeklyDataId, String week, ChangeType changeType) {
+        return new WigDataChangedEvent(wigId, EntityType.WEEKLY_DATA, changeType, weeklyDataId, null, week);
+    }
+
+    public static WigDataChangedEvent commitment(Long wigId, Long commitmentId, String week, ChangeType changeType) {
+        return new WigDataChangedEvent(wigId, EntityType.COMMITMENT, changeType, commitmentId, null, week);
+    }
+
+    public static WigDataChangedEvent milestone(Long wigId, Long milestoneId, ChangeType changeType) {
+        return new WigDataChangedEvent(wigId, EntityType.MILESTONE, changeType, milestoneId, null, null);
+    }
+}
@@ -0,0 +1,59 @@
+package com.fdx.backend.domain.export;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이력 내보내기 REST API Controller
+ *
+ * API 엔드포인트:
+ * GET    /api/wigs/{wigId}/export?format=ndjson|csv   - 특정 WIG의 일간/주간 이력 전체 내보내기 (스트리밍)
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * 특정 WIG의 일간/주간 이력 전체 내보내기
+     * GET /api/wigs/{wigId}/export?format=ndjson
+     */
+    @GetMapping("/api/wigs/{wigId}/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long wigId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.info("GET /api/wigs/{}/export - 이력 내보내기 요청: format={}", wigId, format);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = exportService.export(wigId, exportFormat);
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(exportFormat.getContentType()),
+                        StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"wig-" + wigId + "-history." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * 예외 처리
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(
+            IllegalArgumentException e) {
+        log.error("요청 처리 중 오류 발생: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.badRequest().body(error);
+    }
+}
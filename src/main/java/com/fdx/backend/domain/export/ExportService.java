@@ -0,0 +1,171 @@
+package com.fdx.backend.domain.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fdx.backend.domain.dailydata.DailyDataRepository;
+import com.fdx.backend.domain.dailydata.DailyDataRow;
+import com.fdx.backend.domain.weeklydata.WeeklyDataRepository;
+import com.fdx.backend.domain.weeklydata.WeeklyDataRow;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
+import com.fdx.backend.dto.DailyDataResponse;
+import com.fdx.backend.dto.WeeklyDataResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * WIG 이력 내보내기 Service
+ *
+ * - 일간/주간 데이터를 DB 커서(Stream)로 한 행씩 읽어 바로 응답 스트림에 씀
+ * - 엔티티 대신 DailyDataRow/WeeklyDataRow 프로젝션을 읽으므로 영속성 컨텍스트에 쌓이는 것이 없음
+ * → 이력 길이와 무관하게 메모리 사용량 일정
+ *
+ * 응답 본문은 컨트롤러 반환 후 별도 스레드에서 쓰이므로 트랜잭션은 스트림 안에서 직접 연다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    private static final String CSV_HEADER =
+            "type,id,date,week,dayOfWeek,milestoneProgress,actual,target,leadMeasureId,leadValue";
+
+    private final DailyDataRepository dailyDataRepository;
+    private final WeeklyDataRepository weeklyDataRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 특정 WIG의 일간 + 주간 이력 내보내기
+     */
+    public StreamingResponseBody export(Long wigId, ExportFormat format) {
+        wigOwnershipIndex.checkAccess(wigId); // 응답 스트림 스레드에는 인증 정보가 없으므로 요청 스레드에서 확인
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return outputStream -> {
+            log.info("WIG {}의 이력 내보내기 시작: format={}", wigId, format);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            // 한 커넥션에서 스트리밍 결과셋을 동시에 열지 않도록 일간 → 주간 순서로 하나씩 읽음
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writer.write(CSV_HEADER);
+                        writer.write('\n');
+                    }
+                    try (Stream<DailyDataRow> rows = dailyDataRepository.streamRowsByWigId(wigId)) {
+                        if (format == ExportFormat.CSV) {
+                            writeDailyCsv(writer, rows.iterator());
+                        } else {
+                            writeDailyNdjson(writer, rows.iterator());
+                        }
+                    }
+                    try (Stream<WeeklyDataRow> rows = weeklyDataRepository.streamRowsByWigId(wigId)) {
+                        if (format == ExportFormat.CSV) {
+                            writeWeeklyCsv(writer, rows.iterator());
+                        } else {
+                            writeWeeklyNdjson(writer, rows.iterator());
+                        }
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("WIG {}의 이력 내보내기 완료", wigId);
+        };
+    }
+
+    /**
+     * NDJSON: 일간/주간 데이터 1건당 한 줄 (leadValues 포함)
+     * 같은 id의 행은 연속해서 오므로 id가 바뀔 때마다 한 건씩 묶어서 씀
+     */
+    private void writeDailyNdjson(Writer writer, Iterator<DailyDataRow> rows) throws IOException {
+        DailyDataResponse daily = null;
+        while (rows.hasNext()) {
+            DailyDataRow row = rows.next();
+            if (daily == null || !daily.getId().equals(row.id())) {
+                writeJsonLine(writer, "daily", daily);
+                daily = DailyDataResponse.fromRows(List.of(row)).get(0);
+            } else if (row.leadMeasureId() != null) {
+                daily.getLeadValues().put(row.leadMeasureId(), row.value());
+            }
+        }
+        writeJsonLine(writer, "daily", daily);
+    }
+
+    private void writeWeeklyNdjson(Writer writer, Iterator<WeeklyDataRow> rows) throws IOException {
+        WeeklyDataResponse weekly = null;
+        while (rows.hasNext()) {
+            WeeklyDataRow row = rows.next();
+            if (weekly == null || !weekly.getId().equals(row.id())) {
+                writeJsonLine(writer, "weekly", weekly);
+                weekly = WeeklyDataResponse.fromRows(List.of(row)).get(0);
+            } else if (row.leadMeasureId() != null) {
+                weekly.getLeadValues().put(row.leadMeasureId(), row.value());
+            }
+        }
+        writeJsonLine(writer, "weekly", weekly);
+    }
+
+    private void writeJsonLine(Writer writer, String type, Object record) throws IOException {
+        if (record == null) {
+            return;
+        }
+        ObjectNode node = objectMapper.createObjectNode().put("type", type);
+        node.setAll((ObjectNode) objectMapper.valueToTree(record));
+        writer.write(objectMapper.writeValueAsString(node));
+        writer.write('\n');
+    }
+
+    /**
+     * CSV: 리드매셔 실적 1건당 한 행 (프로젝션 행을 그대로 씀)
+     */
+    private void writeDailyCsv(Writer writer, Iterator<DailyDataRow> rows) throws IOException {
+        while (rows.hasNext()) {
+            DailyDataRow row = rows.next();
+            writeCsvLine(writer, "daily", row.id(), row.date(), row.week(), row.dayOfWeek(),
+                    null, null, null, row.leadMeasureId(), row.value());
+        }
+    }
+
+    private void writeWeeklyCsv(Writer writer, Iterator<WeeklyDataRow> rows) throws IOException {
+        while (rows.hasNext()) {
+            WeeklyDataRow row = rows.next();
+            writeCsvLine(writer, "weekly", row.id(), null, row.week(), null,
+                    row.milestoneProgress(), row.actual(), row.target(), row.leadMeasureId(), row.value());
+        }
+    }
+
+    private void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -3,9 +3,14 @@ package com.fdx.backend.domain.leadmeasure;
 import com.fdx.backend.domain.GoalDirection;
 import com.fdx.backend.domain.LeadMeasureType;
 import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -19,12 +24,19 @@ import java.time.LocalDateTime;
  * - 목표가 "취업"이면, Lead Measure는 "코딩 시간", "이력서 제출"
  */
 @Entity// jpa 엔티티임을 선언. jpa가 조회함
-@Table(name = "lead_measures")// 매핑될 테이블명
+@Table(name = "lead_measures", // 매핑될 테이블명
+        indexes = {
+                @Index(name = "idx_lead_measures_wig_updated", columnList = "wig_id, updated_at"),
+                @Index(name = "idx_lead_measures_deleted_at", columnList = "deleted_at") // 삭제가 끝나지 않은 Lead Measure 조회 (DeletionPurger)
+        })
 @Getter // jpa는 getter를 이용한 프록시 접근도 많음
 @Setter // 프로토타입때 사용하다 나중에 리팩토링
 @NoArgsConstructor  // JPA가 엔티티를 프록시로 생성할 때, 파라미터 없는 기본 생성자가 필요
 @AllArgsConstructor // 필수는 아님. 테스트시 사용
 @Builder// 안정적이고 가독성 높은 객체 생성 방식 제공
+@Cacheable // 2차 캐시 대상 (거의 바뀌지 않는 참조 데이터)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.LEAD_MEASURE_REGION)
+@SQLRestriction("deleted_at IS NULL") // 삭제 요청된 Lead Measure는 실적이 남아 있어도 모든 JPA 조회에서 제외
 public class LeadMeasure {
 
     @Id
@@ -96,13 +108,20 @@ public class LeadMeasure {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 삭제 요청 시각 (null이면 활성)
+     * 실적 삭제가 끝나면 행 자체가 삭제됨
+     */
+    private LocalDateTime deletedAt;
+
     /**
      * 편의 메서드: 이 Lead Measure의 WIG 설정
-     * 양방향 관계 동기화
+     * 양방향 관계 동기화 (WIG 프록시나 아직 안 읽은 컬렉션이면 생략 → 생성 시 추가 SELECT 없음)
      */
     public void setWig(Wig wig) {
         this.wig = wig; // 이거(리드매셜)에 위그 연결
-        if (wig != null && !wig.getLeadMeasures().contains(this)) {
+        if (wig != null && Hibernate.isInitialized(wig) && Hibernate.isInitialized(wig.getLeadMeasures())
+                && !wig.getLeadMeasures().contains(this)) {
             wig.getLeadMeasures().add(this); // 위그 리드매셜 목록에 이거 연결
         }
     }
@@ -1,8 +1,17 @@
 package com.fdx.backend.domain.leadmeasure;
 
+import com.fdx.backend.config.HibernateCacheConfig;
+import com.fdx.backend.domain.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,10 +24,65 @@ public interface LeadMeasureRepository extends JpaRepository<LeadMeasure, Long>
 
     /**
      * 특정 WIG의 모든 Lead Measures 조회
+     * 쿼리 캐시 사용 (lead_measures 테이블이 바뀌면 Hibernate가 자동 무효화)
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.LEAD_MEASURES_BY_WIG_REGION)
+    })
     List<LeadMeasure> findByWigId(Long wigId); // jpa는 메서드 이름을 엔티티 필드로 파싱
 
     // 리드매셔 갯수 제한 검증용
     long countByWigId(Long wigId);
 
+    /**
+     * 특정 WIG의 Lead Measure 버전 (조건부 GET용)
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(l), MAX(l.updatedAt)) "
+            + "FROM LeadMeasure l WHERE l.wig.id = :wigId")
+    ResourceVersion findVersionByWigId(@Param("wigId") Long wigId);
+
+    /**
+     * 특정 사용자의 모든 WIG의 Lead Measure 버전 (WIG 목록 조건부 GET용)
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(l), MAX(l.updatedAt)) "
+            + "FROM LeadMeasure l WHERE l.wig.user.id = :userId")
+    ResourceVersion findVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 since 이후 생성/수정된 Lead Measures (델타 동기화용)
+     */
+    @Query("SELECT l FROM LeadMeasure l "
+            + "WHERE l.wig.user.id = :userId AND l.updatedAt > :since")
+    List<LeadMeasure> findChangedByUserId(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 특정 WIG의 모든 Lead Measures 삭제 (WIG당 최대 개수가 작아서 청크 없이 한 문장)
+     * 벌크 연산이라 Hibernate가 Lead Measure 엔티티/쿼리 캐시를 무효화함
+     */
+    @Modifying
+    @Query("DELETE FROM LeadMeasure l WHERE l.wig.id = :wigId")
+    int deleteByWigId(@Param("wigId") Long wigId);
+
+    /**
+     * Lead Measure 삭제 표시 (실적은 CascadeDeleteService가 그 다음에 삭제)
+     * 벌크 연산이라 Hibernate가 Lead Measure 엔티티/쿼리 캐시를 무효화함
+     */
+    @Modifying
+    @Query("UPDATE LeadMeasure l SET l.deletedAt = :now WHERE l.id = :id")
+    int markDeleted(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 삭제 표시된 채 남은 Lead Measure id (실적 삭제 중 실패한 것, 먼저 삭제 요청된 순서)
+     */
+    @Query(value = "SELECT id FROM lead_measures WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    /**
+     * 삭제 표시된 채 남은 Lead Measure 수 (정리 진행률 메트릭용)
+     */
+    @Query(value = "SELECT COUNT(*) FROM lead_measures WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    long countDeleted();
+
 }
@@ -2,15 +2,20 @@ package com.fdx.backend.domain.leadmeasure;
 
 import com.fdx.backend.domain.GoalDirection;
 import com.fdx.backend.domain.LeadMeasureType;
-import com.fdx.backend.domain.dailydata.DailyLeadDataRepository;
-import com.fdx.backend.domain.weeklydata.WeeklyLeadDataRepository;
+import com.fdx.backend.domain.deletion.CascadeDeleteService;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
+import com.fdx.backend.domain.streak.StreakService;
 import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
 import com.fdx.backend.domain.wig.WigRepository;
 import com.fdx.backend.dto.LeadMeasureRequest;
 import com.fdx.backend.dto.LeadMeasureResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -27,8 +32,10 @@ public class LeadMeasureService {
 
     private final LeadMeasureRepository leadMeasureRepository;
     private final WigRepository wigRepository;
-    private final DailyLeadDataRepository dailyLeadDataRepository;
-    private final WeeklyLeadDataRepository weeklyLeadDataRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
+    private final CascadeDeleteService cascadeDeleteService;
+    private final StreakService streakService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final int MAX_LEAD_MEASURE_COUNT = 5; // Lead Measure 최대 갯수 제한
 
     /**
@@ -37,10 +44,8 @@ public class LeadMeasureService {
     public List<LeadMeasureResponse> getLeadMeasuresByWigId(Long wigId) {
         log.info("WIG {}의 Lead Measures 조회", wigId);
 
-        // WIG 존재 여부 확인
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
-        }
+        // WIG 존재 여부 + 소유자 확인 (SQL 없음)
+        wigOwnershipIndex.checkAccess(wigId);
 
         return leadMeasureRepository.findByWigId(wigId).stream()
                 .map(LeadMeasureResponse::from)
@@ -55,10 +60,9 @@ public class LeadMeasureService {
         log.info("Lead Measure 생성: name={}, wigId={}, goalDirection={}",
                 request.getName(), request.getWigId(), request.getGoalDirection());
 
-        // WIG조회
-        Wig wig = wigRepository.findById(request.getWigId())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "해당 WIG를 찾을 수 없습니다: " + request.getWigId()));
+        // WIG 확인 (소유자 인덱스), 연관관계는 프록시로 FK만 연결
+        wigOwnershipIndex.checkAccess(request.getWigId());
+        Wig wig = wigRepository.getReferenceById(request.getWigId());
 
         // Lead Measure 갯수 제한 검증
         long currentCount = leadMeasureRepository.countByWigId(request.getWigId());
@@ -100,10 +104,10 @@ public class LeadMeasureService {
                 .wig(wig)
                 .build();
 
-        // 양방향 관계 동기화
-        wig.addLeadMeasure(leadMeasure);
-
         LeadMeasure savedLeadMeasure = leadMeasureRepository.save(leadMeasure);
+        streakService.invalidate(wig.getId()); // 전체 동시달성 기준이 바뀌므로 streak 재계산
+        eventPublisher.publishEvent(WigDataChangedEvent.leadMeasure(wig.getId(), savedLeadMeasure.getId(),
+                ChangeType.CREATED));
         log.info("Lead Measure 생성 완료: id={}", savedLeadMeasure.getId());
 
         return LeadMeasureResponse.from(savedLeadMeasure);
@@ -121,6 +125,7 @@ public class LeadMeasureService {
         LeadMeasure leadMeasure = leadMeasureRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 Lead Measure를 찾을 수 없습니다: " + id));
+        wigOwnershipIndex.checkAccess(leadMeasure.getWig().getId());
 
         // 엔티티 수정
         leadMeasure.setName(request.getName());
@@ -145,6 +150,10 @@ public class LeadMeasureService {
             }
         }
 
+        // 목표값/방향이 바뀌면 달성 여부가 달라지므로 streak 재계산
+        streakService.invalidate(leadMeasure.getWig().getId());
+        eventPublisher.publishEvent(WigDataChangedEvent.leadMeasure(leadMeasure.getWig().getId(), id,
+                ChangeType.UPDATED));
 
         log.info("Lead Measure 수정 완료: id={}", id);
 
@@ -155,21 +164,19 @@ public class LeadMeasureService {
 
     /**
      * Lead Measure 삭제
-     * 연관된 DailyLeadData, WeeklyLeadData도 함께 삭제
+     * 먼저 삭제 표시로 숨긴 뒤 연관된 DailyLeadData, WeeklyLeadData를 삭제 (행마다 읽어서 지우지 않고 청크 단위 벌크 DELETE)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 청크마다 따로 커밋
     public void deleteLeadMeasure(Long id) {
         log.info("Lead Measure 삭제: id={}", id);
 
-        if (!leadMeasureRepository.existsById(id)) {
-            throw new IllegalArgumentException("해당 Lead Measure를 찾을 수 없습니다: " + id);
-        }
-
-        // 연관된 DailyLeadData, WeeklyLeadData 먼저 삭제
-        dailyLeadDataRepository.deleteByLeadMeasureId(id);
-        weeklyLeadDataRepository.deleteByLeadMeasureId(id);
+        LeadMeasure leadMeasure = leadMeasureRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "해당 Lead Measure를 찾을 수 없습니다: " + id));
+        Long wigId = leadMeasure.getWig().getId();
+        wigOwnershipIndex.checkAccess(wigId);
 
-        leadMeasureRepository.deleteById(id);
+        cascadeDeleteService.deleteLeadMeasure(wigId, id);
         log.info("Lead Measure 삭제 완료: id={}", id);
 
     }
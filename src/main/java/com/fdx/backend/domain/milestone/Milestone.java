@@ -3,6 +3,7 @@ package com.fdx.backend.domain.milestone;
 import com.fdx.backend.domain.wig.Wig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -21,7 +22,12 @@ import java.time.LocalDateTime;
  *   5. 최종 합격
  */
 @Entity
-@Table(name = "milestones")
+@Table(name = "milestones",
+        indexes = {
+                @Index(name = "idx_milestones_wig_updated", columnList = "wig_id, updated_at"),
+                @Index(name = "idx_milestones_wig_order", columnList = "wig_id, order_index"), // 순서대로 조회
+                @Index(name = "idx_milestones_wig_completed", columnList = "wig_id, completed") // 완료 개수
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -76,11 +82,12 @@ public class Milestone {
 
     /**
      * 편의 메서드: 이 Milestone의 WIG 설정
-     * 양방향 관계 동기화
+     * 양방향 관계 동기화 (이미 로드된 milestones 컬렉션에만 추가, 지연 로딩 컬렉션은 건드리지 않음)
      */
     public void setWig(Wig wig) {
         this.wig = wig;
-        if (wig != null && !wig.getMilestones().contains(this)) {
+        if (wig != null && Hibernate.isInitialized(wig) && Hibernate.isInitialized(wig.getMilestones())
+                && !wig.getMilestones().contains(this)) {
             wig.getMilestones().add(this);
         }
     }
@@ -1,5 +1,6 @@
 package com.fdx.backend.domain.milestone;
 
+import com.fdx.backend.dto.CompletionRequest;
 import com.fdx.backend.dto.MilestoneRequest;
 import com.fdx.backend.dto.MilestoneResponse;
 import jakarta.validation.Valid;
@@ -8,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -22,7 +24,10 @@ import java.util.Map;
  * POST   /api/milestones                         - Milestone 생성
  * PUT    /api/milestones/{id}                    - Milestone 수정
  * PATCH  /api/milestones/{id}/toggle             - Milestone 완료 상태 토글
+ * PUT    /api/wigs/{wigId}/milestones/{id}/completed - Milestone 완료 상태 지정
  * DELETE /api/milestones/{id}                    - Milestone 삭제
+ *
+ * 조회 API는 ETag 조건부 요청 지원 (WIG의 Milestones 버전이 같으면 304)
  */
 @RestController
 @RequiredArgsConstructor
@@ -37,8 +42,12 @@ public class MilestoneController {
      */
     @GetMapping("/api/wigs/{wigId}/milestones")
     public ResponseEntity<List<MilestoneResponse>> getMilestonesByWigId(
-            @PathVariable Long wigId) {
+            @PathVariable Long wigId,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/milestones - Milestones 조회 요청", wigId);
+        if (webRequest.checkNotModified(milestoneService.getMilestonesVersion(wigId).etag())) {
+            return null; // 304 Not Modified (엔티티 조회/JSON 직렬화 생략)
+        }
         List<MilestoneResponse> milestones = milestoneService.getMilestonesByWigId(wigId);
         return ResponseEntity.ok(milestones);
     }
@@ -56,8 +65,12 @@ public class MilestoneController {
      */
     @GetMapping("/api/wigs/{wigId}/milestones/progress")
     public ResponseEntity<Map<String, Object>> getMilestoneProgress(
-            @PathVariable Long wigId) {
+            @PathVariable Long wigId,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/milestones/progress - Milestone 진행률 조회 요청", wigId);
+        if (webRequest.checkNotModified(milestoneService.getMilestonesVersion(wigId).etag())) {
+            return null;
+        }
         Map<String, Object> progress = milestoneService.getMilestoneProgress(wigId);
         return ResponseEntity.ok(progress);
     }
@@ -101,6 +114,23 @@ public class MilestoneController {
         return ResponseEntity.ok(milestone);
     }
 
+    /**
+     * Milestone 완료 상태 지정
+     * PUT /api/wigs/{wigId}/milestones/{id}/completed
+     *
+     * 요청 예시: { "completed": false }
+     */
+    @PutMapping("/api/wigs/{wigId}/milestones/{id}/completed")
+    public ResponseEntity<Void> setMilestoneCompleted(
+            @PathVariable Long wigId,
+            @PathVariable Long id,
+            @Valid @RequestBody CompletionRequest request) {
+        log.info("PUT /api/wigs/{}/milestones/{}/completed - Milestone 완료 상태 지정 요청: {}",
+                wigId, id, request.getCompleted());
+        milestoneService.setMilestoneCompleted(wigId, id, request.getCompleted());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Milestone 삭제
      * DELETE /api/milestones/{id}
@@ -1,8 +1,14 @@
 package com.fdx.backend.domain.milestone;
 
+import com.fdx.backend.domain.ResourceVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,4 +32,56 @@ public interface MilestoneRepository extends JpaRepository<Milestone, Long> {
      */
     long countByWigId(Long wigId);
 
+    /**
+     * 특정 WIG의 Milestone 버전 (조건부 GET용)
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(m), MAX(m.updatedAt)) "
+            + "FROM Milestone m WHERE m.wig.id = :wigId")
+    ResourceVersion findVersionByWigId(@Param("wigId") Long wigId);
+
+    /**
+     * 특정 사용자의 모든 WIG의 Milestone 버전 (WIG 목록 조건부 GET용)
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(m), MAX(m.updatedAt)) "
+            + "FROM Milestone m WHERE m.wig.user.id = :userId")
+    ResourceVersion findVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 since 이후 생성/수정된 Milestones (델타 동기화용)
+     */
+    @Query("SELECT m FROM Milestone m "
+            + "WHERE m.wig.user.id = :userId AND m.updatedAt > :since")
+    List<Milestone> findChangedByUserId(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 완료 상태 토글 (조건부 UPDATE 한 문장, 소유자의 WIG에 속한 Milestone만)
+     *
+     * @return 변경된 행 수 (0이면 없거나 다른 사용자의 Milestone)
+     */
+    @Modifying
+    @Query("UPDATE Milestone m "
+            + "SET m.completed = CASE WHEN m.completed = true THEN false ELSE true END, m.updatedAt = :now "
+            + "WHERE m.id = :id AND m.wig.id IN (SELECT w.id FROM Wig w WHERE w.user.id = :userId)")
+    int toggleCompleted(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 완료 상태 지정 (이미 그 상태면 0건)
+     */
+    @Modifying
+    @Query("UPDATE Milestone m SET m.completed = :completed, m.updatedAt = :now "
+            + "WHERE m.id = :id AND m.wig.id = :wigId AND m.completed <> :completed")
+    int updateCompleted(@Param("id") Long id, @Param("wigId") Long wigId,
+                        @Param("completed") boolean completed, @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 WIG에 속한 Milestone 존재 여부
+     */
+    boolean existsByIdAndWigId(Long id, Long wigId);
+
+    /**
+     * 특정 WIG의 Milestone id limit개 (청크 삭제용)
+     */
+    @Query("SELECT m.id FROM Milestone m WHERE m.wig.id = :wigId")
+    List<Long> findIdsByWigId(@Param("wigId") Long wigId, Limit limit);
+
 }
@@ -1,15 +1,22 @@
 package com.fdx.backend.domain.milestone;
 
 import com.fdx.backend.domain.MeasureType;
+import com.fdx.backend.domain.ResourceVersion;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
 import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
 import com.fdx.backend.domain.wig.WigRepository;
 import com.fdx.backend.dto.MilestoneRequest;
 import com.fdx.backend.dto.MilestoneResponse;
+import com.fdx.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +33,17 @@ public class MilestoneService {
 
     private final MilestoneRepository milestoneRepository;
     private final WigRepository wigRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CurrentUser currentUser;
+
+    /**
+     * 특정 WIG의 Milestones 버전 (조건부 GET용, 목록/진행률 공통)
+     */
+    public ResourceVersion getMilestonesVersion(Long wigId) {
+        wigOwnershipIndex.checkAccess(wigId);
+        return milestoneRepository.findVersionByWigId(wigId);
+    }
 
     /**
      * 특정 WIG의 모든 Milestones 조회
@@ -33,10 +51,8 @@ public class MilestoneService {
     public List<MilestoneResponse> getMilestonesByWigId(Long wigId) {
         log.info("WIG {}의 Milestones 조회", wigId);
 
-        // WIG 존재 여부 확인
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
-        }
+        // WIG 존재 여부 + 소유자 확인 (SQL 없음)
+        wigOwnershipIndex.checkAccess(wigId);
 
         return milestoneRepository.findByWigIdOrderByOrderIndexAsc(wigId).stream()
                 .map(MilestoneResponse::from)
@@ -50,6 +66,7 @@ public class MilestoneService {
         log.info("WIG {}의 Milestone 진행률 조회", wigId);
 
         // WIG 존재 여부 및 타입 확인
+        wigOwnershipIndex.checkAccess(wigId);
         Wig wig = wigRepository.findById(wigId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId));
 
@@ -77,6 +94,7 @@ public class MilestoneService {
         log.info("Milestone 생성: name={}, wigId={}", request.getName(), request.getWigId());
 
         // WIG 조회 및 타입 검증
+        wigOwnershipIndex.checkAccess(request.getWigId());
         Wig wig = wigRepository.findById(request.getWigId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 WIG를 찾을 수 없습니다: " + request.getWigId()));
@@ -93,10 +111,11 @@ public class MilestoneService {
                 .wig(wig)
                 .build();
 
-        // 양방향 관계 동기화
-        wig.addMilestone(milestone);
+        // wig.addMilestone()은 지연 로딩된 milestones 컬렉션을 읽게 되므로 FK만 연결해서 저장
 
         Milestone savedMilestone = milestoneRepository.save(milestone);
+        eventPublisher.publishEvent(WigDataChangedEvent.milestone(wig.getId(), savedMilestone.getId(),
+                ChangeType.CREATED));
         log.info("Milestone 생성 완료: id={}", savedMilestone.getId());
 
         return MilestoneResponse.from(savedMilestone);
@@ -112,6 +131,7 @@ public class MilestoneService {
         Milestone milestone = milestoneRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException (
                         "해당 Milestone을 찾을 수 없습니다: " +id));
+        wigOwnershipIndex.checkAccess(milestone.getWig().getId());
 
         // 엔티티 수정
         milestone.setName(request.getName());
@@ -119,6 +139,7 @@ public class MilestoneService {
             milestone.setCompleted(request.getCompleted());
         }
         milestone.setOrderIndex(request.getOrderIndex());
+        eventPublisher.publishEvent(WigDataChangedEvent.milestone(milestone.getWig().getId(), id, ChangeType.UPDATED));
 
         log.info("Milestone 수정 완료: id={}", id);
 
@@ -127,22 +148,46 @@ public class MilestoneService {
 
     /**
      * Milestone 완료 상태 토글
+     *
+     * 완료 여부를 Java에서 뒤집지 않고 DB의 UPDATE 한 문장에서 뒤집음 (동시 토글 경쟁 없음, 락 불필요)
+     * 응답은 갱신 후 PK 조회 한 번으로 만듦
      */
     @Transactional
     public MilestoneResponse toggleMilestoneCompleted(Long id) {
         log.info("Milestone 완료 상태 토글: id={}", id);
 
+        if (milestoneRepository.toggleCompleted(id, currentUser.getId(), LocalDateTime.now()) == 0) {
+            throw notUpdated(id);
+        }
         Milestone milestone = milestoneRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 Milestone을 찾을 수 없습니다: " + id));
 
-        milestone.toggleCompleted();
+        eventPublisher.publishEvent(WigDataChangedEvent.milestone(milestone.getWig().getId(), id, ChangeType.UPDATED));
 
         log.info("Milestone 완료 상태 변경: id={}, completed={}", id, milestone.getCompleted());
 
         return MilestoneResponse.from(milestone);
     }
 
+    /**
+     * Milestone 완료 상태 지정 (조회 없이 UPDATE 한 문장, 멱등)
+     */
+    @Transactional
+    public void setMilestoneCompleted(Long wigId, Long id, boolean completed) {
+        log.info("Milestone 완료 상태 지정: wigId={}, id={}, completed={}", wigId, id, completed);
+
+        wigOwnershipIndex.checkAccess(wigId);
+
+        if (milestoneRepository.updateCompleted(id, wigId, completed, LocalDateTime.now()) == 0) {
+            if (!milestoneRepository.existsByIdAndWigId(id, wigId)) {
+                throw new IllegalArgumentException("해당 Milestone을 찾을 수 없습니다: " + id);
+            }
+            return; // 변경 없음
+        }
+        eventPublisher.publishEvent(WigDataChangedEvent.milestone(wigId, id, ChangeType.UPDATED));
+    }
+
     /**
      * Milestone 삭제
      */
@@ -150,12 +195,22 @@ public class MilestoneService {
     public void deleteMilestone(Long id) {
         log.info("Milestone 삭제: id={}", id);
 
-        if(!milestoneRepository.existsById(id)) {
-            throw new IllegalArgumentException("해당 Milestone을 찾을 수 없습니다: " + id);
-        }
+        Milestone milestone = milestoneRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 Milestone을 찾을 수 없습니다: " + id));
+        wigOwnershipIndex.checkAccess(milestone.getWig().getId());
 
-        milestoneRepository.deleteById(id);
+        milestoneRepository.delete(milestone);
+        eventPublisher.publishEvent(WigDataChangedEvent.milestone(milestone.getWig().getId(), id, ChangeType.DELETED));
         log.info("Milestone 삭제 완료: id={}", id);
     }
 
+    /**
+     * 토글 UPDATE가 0건인 원인 구분 (없는 Milestone → 400, 남의 Milestone → checkAccess 예외)
+     */
+    private IllegalArgumentException notUpdated(Long id) {
+        milestoneRepository.findById(id)
+                .ifPresent(milestone -> wigOwnershipIndex.checkAccess(milestone.getWig().getId()));
+        return new IllegalArgumentException("해당 Milestone을 찾을 수 없습니다: " + id);
+    }
+
 }
@@ -0,0 +1,148 @@
+package com.fdx.backend.domain.streak;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * WIG 한 개의 일별 달성 여부 비트셋 인덱스
+ *
+ * - 비트 위치 = WIG 생성일(baseDate)로부터의 일수
+ * - lead measure별 비트셋 + 전체 동시달성(key = null) 비트셋
+ * - streak/기간 집계는 엔티티 순회 대신 BitSet의 word 단위 연산으로 처리
+ *
+ * 여러 요청 스레드에서 공유되므로 모든 접근은 동기화
+ */
+public class AchievementIndex {
+
+    /**
+     * 기록하는 최대 일수 (WIG 생성일부터 약 100년), 그 이후 날짜는 무시
+     * 먼 미래 날짜 하나로 비트셋이 수백 MB까지 커지지 않도록 제한
+     */
+    static final int MAX_DAYS = 36_600;
+
+    private final LocalDate baseDate;
+
+    /**
+     * key: leadMeasureId (null = 전체 동시달성)
+     */
+    private final Map<Long, BitSet> bitsByKey = new HashMap<>();
+
+    public AchievementIndex(LocalDate baseDate, Collection<Long> leadMeasureIds) {
+        this.baseDate = baseDate;
+        leadMeasureIds.forEach(id -> bitsByKey.put(id, new BitSet()));
+        bitsByKey.put(null, new BitSet());
+    }
+
+    /**
+     * 인덱스가 현재 lead measure 구성과 일치하는지
+     */
+    public synchronized boolean covers(LocalDate baseDate, Collection<Long> leadMeasureIds) {
+        return this.baseDate.equals(baseDate)
+                && bitsByKey.size() == leadMeasureIds.size() + 1
+                && bitsByKey.keySet().containsAll(leadMeasureIds);
+    }
+
+    /**
+     * 특정 날짜의 달성 여부 기록 (WIG 생성일 이전, MAX_DAYS 이후 날짜는 무시)
+     *
+     * @return 모르는 key면 false (인덱스를 다시 만들어야 함)
+     */
+    public synchronized boolean set(Long key, LocalDate date, boolean achieved) {
+        BitSet bits = bitsByKey.get(key);
+        if (bits == null) {
+            return false;
+        }
+        int offset = offset(date);
+        if (offset >= 0 && offset < MAX_DAYS) {
+            bits.set(offset, achieved);
+        }
+        return true;
+    }
+
+    /**
+     * 오늘 기준 현재 streak
+     * 오늘 달성했으면 오늘부터, 아니면 어제부터 거꾸로 센다
+     */
+    public synchronized int currentStreak(Long key, LocalDate today) {
+        BitSet bits = bits(key);
+        int todayOffset = offset(today);
+        if (todayOffset < 0) {
+            return 0;
+        }
+        int from = bits.get(todayOffset) ? todayOffset : todayOffset - 1;
+        if (from < 0 || !bits.get(from)) {
+            return 0;
+        }
+        return from - bits.previousClearBit(from);
+    }
+
+    /**
+     * 전체 이력 중 가장 긴 연속달성 일수
+     */
+    public synchronized int longestStreak(Long key) {
+        BitSet bits = bits(key);
+        int longest = 0;
+        for (int start = bits.nextSetBit(0); start >= 0; ) {
+            int end = bits.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = bits.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    /**
+     * 기간 [startDate, endDate] 중 달성한 일수
+     */
+    public synchronized int countAchieved(Long key, LocalDate startDate, LocalDate endDate) {
+        int[] range = range(startDate, endDate);
+        return range == null ? 0 : bits(key).get(range[0], range[1]).cardinality();
+    }
+
+    /**
+     * 기간 [startDate, endDate] 중 달성한 날짜 목록 (오름차순)
+     */
+    public synchronized List<LocalDate> achievedDates(Long key, LocalDate startDate, LocalDate endDate) {
+        int[] range = range(startDate, endDate);
+        List<LocalDate> dates = new ArrayList<>();
+        if (range == null) {
+            return dates;
+        }
+        BitSet bits = bits(key);
+        for (int i = bits.nextSetBit(range[0]); i >= 0 && i < range[1]; i = bits.nextSetBit(i + 1)) {
+            dates.add(baseDate.plusDays(i));
+        }
+        return dates;
+    }
+
+    /**
+     * 가장 최근 연속달성 구간 [start, end] (달성일이 없으면 null)
+     */
+    public synchronized LocalDate[] latestRun(Long key) {
+        BitSet bits = bits(key);
+        int last = bits.length() - 1;
+        if (last < 0) {
+            return null;
+        }
+        int start = bits.previousClearBit(last) + 1;
+        return new LocalDate[]{baseDate.plusDays(start), baseDate.plusDays(last)};
+    }
+
+    private BitSet bits(Long key) {
+        return bitsByKey.getOrDefault(key, new BitSet());
+    }
+
+    private int offset(LocalDate date) {
+        long days = ChronoUnit.DAYS.between(baseDate, date);
+        return (int) Math.max(Math.min(days, MAX_DAYS), -1); // 생성일 이전은 -1, 기록 범위 이후는 MAX_DAYS
+    }
+
+    /**
+     * 날짜 구간을 비트 구간 [from, to)로 변환 (겹치는 부분이 없으면 null)
+     */
+    private int[] range(LocalDate startDate, LocalDate endDate) {
+        int from = Math.max(offset(startDate), 0);
+        int to = Math.min(offset(endDate) + 1, MAX_DAYS);
+        return from < to ? new int[]{from, to} : null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.fdx.backend.domain.streak;
+
+import com.fdx.backend.domain.ResourceVersion;
+import com.fdx.backend.domain.dailydata.DailyDataRepository;
+import com.fdx.backend.domain.dailydata.DailyDataRow;
+import com.fdx.backend.domain.leadmeasure.LeadMeasure;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.wig.Wig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.ref.SoftReference;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * WIG별 AchievementIndex 메모리 캐시
+ *
+ * - 첫 조회 시 일간 데이터 이력으로 생성 (lazy, 엔티티 대신 DailyDataRow 플랫 행을 커서로 스트리밍)
+ * - 인덱스와 함께 생성 시점의 daily_data + lead_measures 버전(ResourceVersion)을 저장하고,
+ *   조회마다 버전 집계(SQL 2번)로 확인해서 다르면 다시 생성
+ *   → 다른 서버에서 쓴 일간 데이터도 바로 반영 (서버마다 캐시가 따로 있어도 오래된 인덱스를 쓰지 않음)
+ * - SoftReference로 보관하므로 메모리가 부족하면 GC가 회수 → 다음 조회 때 재생성
+ *
+ * 버전은 이력을 읽기 전에 조회 → 그 사이 쓰기가 있으면 저장된 버전이 더 오래된 것이라 다음 조회에서 다시 생성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AchievementIndexCache {
+
+    private final DailyDataRepository dailyDataRepository;
+    private final LeadMeasureRepository leadMeasureRepository;
+
+    private final Map<Long, SoftReference<Cached>> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 인덱스 반환, 없거나 DB 버전 / lead measure 구성이 바뀌었으면 이력으로 생성
+     */
+    @Transactional(readOnly = true) // 버전 조회와 이력 스트리밍을 한 트랜잭션에서
+    public AchievementIndex get(Wig wig, List<LeadMeasure> leadMeasures) {
+        LocalDate baseDate = wig.getCreatedAt().toLocalDate();
+        List<Long> leadMeasureIds = leadMeasures.stream().map(LeadMeasure::getId).collect(Collectors.toList());
+        ResourceVersion version = dailyDataRepository.findVersionByWigId(wig.getId())
+                .and(leadMeasureRepository.findVersionByWigId(wig.getId()));
+
+        SoftReference<Cached> ref = indexes.get(wig.getId());
+        Cached cached = ref != null ? ref.get() : null;
+        if (cached != null && cached.version().equals(version) && cached.index().covers(baseDate, leadMeasureIds)) {
+            return cached.index();
+        }
+
+        AchievementIndex index = build(wig, baseDate, leadMeasures);
+        indexes.put(wig.getId(), new SoftReference<>(new Cached(version, index)));
+        return index;
+    }
+
+    /**
+     * 인덱스 제거 (Lead Measure 변경, WIG 삭제 시 메모리 정리용, 버전 확인이 있으므로 정합성에는 필요 없음)
+     */
+    public void evict(Long wigId) {
+        indexes.remove(wigId);
+    }
+
+    private AchievementIndex build(Wig wig, LocalDate baseDate, List<LeadMeasure> leadMeasures) {
+        log.debug("WIG {}의 달성 인덱스 생성", wig.getId());
+        AchievementIndex index = new AchievementIndex(baseDate,
+                leadMeasures.stream().map(LeadMeasure::getId).collect(Collectors.toList()));
+
+        // 날짜 순으로 정렬된 행을 날짜별로 묶어서 반영 (일간 데이터 1건 = 실적 수만큼의 행)
+        try (Stream<DailyDataRow> rows = dailyDataRepository.streamRowsByWigId(wig.getId())) {
+            LocalDate date = null;
+            Map<Long, Double> values = new HashMap<>();
+            for (Iterator<DailyDataRow> it = rows.iterator(); it.hasNext(); ) {
+                DailyDataRow row = it.next();
+                if (!row.date().equals(date)) {
+                    setDay(index, wig, leadMeasures, date, values);
+                    date = row.date();
+                    values.clear();
+                }
+                if (row.leadMeasureId() != null) {
+                    values.put(row.leadMeasureId(), row.value());
+                }
+            }
+            setDay(index, wig, leadMeasures, date, values);
+        }
+        return index;
+    }
+
+    private static void setDay(AchievementIndex index, Wig wig, List<LeadMeasure> leadMeasures, LocalDate date,
+                               Map<Long, Double> values) {
+        if (date == null) {
+            return;
+        }
+        StreakService.achievedByKey(wig, leadMeasures, date, values)
+                .forEach((key, achieved) -> index.set(key, date, achieved));
+    }
+
+    /**
+     * 인덱스와 인덱스를 만들 때의 DB 버전
+     */
+    private record Cached(ResourceVersion version, AchievementIndex index) {
+    }
+}
@@ -0,0 +1,206 @@
+package com.fdx.backend.domain.streak;
+
+import com.fdx.backend.domain.dailydata.DailyDataRepository;
+import com.fdx.backend.domain.dailydata.DailyDataRow;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.leadmeasure.LeadMeasure;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * streak 프로젝션(streak_states) 갱신 — 프로젝션을 쓰는 유일한 곳
+ *
+ * - 일간 데이터 변경 이벤트를 커밋 후 받아 백그라운드 스레드 하나에서 순서대로 반영
+ *   → 쓰기 요청 트랜잭션에는 streak 계산 문장이 추가되지 않음
+ * - 날짜가 있는 변경: 그 날짜의 실적만 읽어 가장 최근 구간 / 최장 streak를 증분 갱신
+ * - 증분 갱신이 불가능하거나 날짜를 모르는 변경(일괄 생성, Lead Measure 변경): 달성 인덱스로 재계산
+ * - 같은 WIG의 대기 중인 작업은 합쳐서 한 번에 처리
+ *
+ * 반영이 끝나기 전 잠깐 동안은 조회 결과가 직전 값일 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StreakProjectionUpdater {
+
+    private final StreakStateRepository streakStateRepository;
+    private final AchievementIndexCache achievementIndexCache;
+    private final WigRepository wigRepository;
+    private final LeadMeasureRepository leadMeasureRepository;
+    private final DailyDataRepository dailyDataRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("streak-projection").factory());
+
+    /**
+     * WIG별 대기 중인 작업
+     */
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWigDataChanged(WigDataChangedEvent event) {
+        if (event.entityType() == WigDataChangedEvent.EntityType.DAILY_DATA) {
+            submit(event.wigId(), event.date()); // 날짜가 없으면 (일괄 생성) 재계산
+        }
+    }
+
+    /**
+     * 프로젝션 재계산 요청 (트랜잭션 안이면 커밋 후)
+     */
+    public void requestRebuild(Long wigId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(wigId, null);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(wigId, null);
+            }
+        });
+    }
+
+    /**
+     * 달성 인덱스로 프로젝션 재계산 (호출한 스레드에서 바로 실행)
+     */
+    public void rebuild(Long wigId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            streakStateRepository.deleteByWigId(wigId);
+            Wig wig = wigRepository.findById(wigId).orElse(null);
+            if (wig == null) {
+                return; // 삭제된 WIG → 프로젝션만 정리
+            }
+            log.info("WIG {}의 streak 프로젝션 재계산", wigId);
+            List<LeadMeasure> leadMeasures = leadMeasureRepository.findByWigId(wigId);
+            AchievementIndex index = achievementIndexCache.get(wig, leadMeasures);
+
+            List<StreakState> states = new ArrayList<>();
+            leadMeasures.forEach(lm -> states.add(StreakRun.of(index.latestRun(lm.getId()))
+                    .toState(wigId, lm.getId(), index.longestStreak(lm.getId()))));
+            states.add(StreakRun.of(index.latestRun(null)).toState(wigId, null, index.longestStreak(null)));
+            streakStateRepository.saveAll(states);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @param date 반영할 날짜 (null이면 재계산)
+     */
+    private void submit(Long wigId, LocalDate date) {
+        boolean[] created = new boolean[1];
+        pending.compute(wigId, (id, work) -> {
+            if (work == null) {
+                work = new Pending();
+                created[0] = true;
+            }
+            if (date == null) {
+                work.rebuild = true;
+            } else {
+                work.dates.add(date);
+            }
+            return work;
+        });
+        if (created[0]) {
+            executor.execute(() -> process(wigId));
+        }
+    }
+
+    private void process(Long wigId) {
+        Pending work = pending.remove(wigId);
+        if (work == null) {
+            return;
+        }
+        try {
+            boolean rebuild = work.rebuild;
+            for (Iterator<LocalDate> dates = work.dates.iterator(); !rebuild && dates.hasNext(); ) {
+                rebuild = !applyDay(wigId, dates.next());
+            }
+            if (rebuild) {
+                rebuild(wigId); // 달성 인덱스는 DB 버전을 확인하므로 항상 커밋된 최신 이력으로 계산
+            }
+        } catch (RuntimeException e) {
+            // 프로젝션을 지워두면 다음 조회가 달성 인덱스로 계산하고 재계산을 다시 요청
+            log.warn("WIG {}의 streak 프로젝션 갱신 실패: {}", wigId, e.getMessage());
+            achievementIndexCache.evict(wigId);
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> streakStateRepository.deleteByWigId(wigId));
+        }
+    }
+
+    /**
+     * 특정 날짜의 현재 실적을 프로젝션에 반영
+     *
+     * @return 증분 반영 여부 (false: 재계산 필요)
+     */
+    private boolean applyDay(Long wigId, LocalDate date) {
+        Boolean applied = new TransactionTemplate(transactionManager).execute(status -> {
+            Wig wig = wigRepository.findById(wigId).orElse(null);
+            if (wig == null) {
+                return false;
+            }
+            List<LeadMeasure> leadMeasures = leadMeasureRepository.findByWigId(wigId);
+            Map<Long, Double> values = new HashMap<>();
+            for (DailyDataRow row : dailyDataRepository.findRowsByWigIdAndDateBetween(wigId, date, date)) {
+                if (row.leadMeasureId() != null) {
+                    values.put(row.leadMeasureId(), row.value());
+                }
+            }
+
+            Map<Long, Boolean> achievedByKey = StreakService.achievedByKey(wig, leadMeasures, date, values);
+
+            List<StreakState> states = streakStateRepository.findByWigId(wigId);
+            if (states.size() != achievedByKey.size()) {
+                return false;
+            }
+            Map<StreakState, StreakRun> nextRuns = new HashMap<>();
+            Map<StreakState, Integer> nextLongest = new HashMap<>();
+            for (StreakState state : states) {
+                Boolean achieved = achievedByKey.get(state.getLeadMeasureId());
+                if (achieved == null) {
+                    return false;
+                }
+                StreakRun run = StreakRun.of(state);
+                StreakRun next = run.advance(date, achieved);
+                int longest = next != null ? run.longestAfter(next, date, state.getLongestStreak()) : -1;
+                if (longest < 0) {
+                    return false; // 증분 갱신이 불가능한 키가 하나라도 있으면 통째로 재계산
+                }
+                nextRuns.put(state, next);
+                nextLongest.put(state, longest);
+            }
+            nextRuns.forEach((state, run) -> {
+                state.setRunStart(run.start());
+                state.setRunEnd(run.end());
+                state.setLongestStreak(nextLongest.get(state));
+            });
+            return true;
+        });
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private static final class Pending {
+        boolean rebuild;
+        final Set<LocalDate> dates = new TreeSet<>();
+    }
+}
@@ -0,0 +1,104 @@
+package com.fdx.backend.domain.streak;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 가장 최근 연속달성 구간 (start ~ end, 달성일이 없으면 둘 다 null)
+ */
+record StreakRun(LocalDate start, LocalDate end) {
+
+    static final StreakRun EMPTY = new StreakRun(null, null);
+
+    static StreakRun of(StreakState state) {
+        return new StreakRun(state.getRunStart(), state.getRunEnd());
+    }
+
+    static StreakRun of(LocalDate[] run) {
+        return run == null ? EMPTY : new StreakRun(run[0], run[1]);
+    }
+
+    int length() {
+        return end == null ? 0 : (int) ChronoUnit.DAYS.between(start, end) + 1;
+    }
+
+    /**
+     * 오늘 기준 현재 streak
+     * - 마지막 달성일이 오늘 또는 어제면 구간 길이만큼 이어지는 중
+     * - 그보다 오래됐으면 끊긴 것으로 보고 0
+     */
+    int currentStreak(LocalDate today) {
+        if (end == null || end.isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        LocalDate last = end.isAfter(today) ? today : end;
+        if (start.isAfter(last)) {
+            return 0;
+        }
+        return (int) ChronoUnit.DAYS.between(start, last) + 1;
+    }
+
+    /**
+     * 임의 날짜의 달성 여부 변경을 반영
+     * 구간 밖의 이력을 알아야 하는 경우 null 반환 (재계산 필요)
+     */
+    StreakRun advance(LocalDate date, boolean achieved) {
+        // 최근 구간 이후의 날짜는 모두 미달성 상태
+        if (end == null || date.isAfter(end.plusDays(1))) {
+            return achieved ? new StreakRun(date, date) : this;
+        }
+        if (date.equals(end.plusDays(1))) {
+            return achieved ? new StreakRun(start, date) : this;
+        }
+        // 구간 안의 날짜
+        if (!date.isBefore(start)) {
+            if (achieved) {
+                return this;
+            }
+            if (date.isBefore(end)) {
+                return new StreakRun(date.plusDays(1), end);
+            }
+            if (date.isAfter(start)) {
+                return new StreakRun(start, date.minusDays(1));
+            }
+            return null; // 구간이 사라짐 → 이전 구간은 이력에서 찾아야 함
+        }
+        // 구간 시작 직전 날짜가 달성되면 더 이전 구간과 이어질 수 있음
+        if (achieved && date.equals(start.minusDays(1))) {
+            return null;
+        }
+        return this;
+    }
+
+    /**
+     * advance(date, ...)로 next가 된 뒤의 최장 streak
+     * 이전 구간들의 길이를 알아야 하는 경우 -1 반환 (재계산 필요)
+     *
+     * @param longest 변경 전 최장 streak
+     */
+    int longestAfter(StreakRun next, LocalDate date, int longest) {
+        // 최근 구간 뒤에 새 구간이 생김
+        if (end == null || next.start() != null && next.start().isAfter(end)) {
+            return Math.max(longest, next.length());
+        }
+        // 최근 구간 이전 날짜의 변경은 이전 구간 길이를 바꿀 수 있음
+        if (date.isBefore(start)) {
+            return -1;
+        }
+        if (next.length() >= length()) {
+            return Math.max(longest, next.length());
+        }
+        // 최근 구간이 줄어듦: 최장이 다른 구간이면 그대로
+        return length() < longest ? longest : -1;
+    }
+
+    StreakState toState(Long wigId, Long leadMeasureId, int longestStreak) {
+        return StreakState.builder()
+                .wigId(wigId)
+                .leadMeasureId(leadMeasureId)
+                .runStart(start)
+                .runEnd(end)
+                .longestStreak(longestStreak)
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.fdx.backend.domain.streak;
+
+import com.fdx.backend.domain.GoalDirection;
+import com.fdx.backend.domain.ResourceVersion;
+import com.fdx.backend.domain.leadmeasure.LeadMeasure;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigRepository;
+import com.fdx.backend.dto.AchievementCalendarResponse;
+import com.fdx.backend.dto.StreakResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 연속달성(Streak) 조회 Service
+ *
+ * - 조회: streak_states 테이블의 작은 행만 읽음 (이력 길이와 무관, 최장 streak도 프로젝션에 저장)
+ * - 갱신: StreakProjectionUpdater가 일간 데이터 변경 커밋 후 백그라운드에서 반영
+ * - 프로젝션이 없으면 (처음 조회, 무효화 직후) 이번 응답만 달성 인덱스로 계산하고 재계산 요청
+ *   (대시보드처럼 비용이 정해져 있어야 하는 곳은 findStreak으로 프로젝션만 읽음)
+ * - 기간별 달성 일수는 달성 인덱스(AchievementIndex)의 비트 연산으로 계산
+ *
+ * 달성 기준
+ * - MAXIMIZE: actual >= dailyTarget 인 날 달성
+ * - MINIMIZE: actual <= dailyTarget 인 날 달성
+ * - 데이터 미입력일, WIG 생성일 이전은 미달성
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class StreakService {
+
+    private final StreakStateRepository streakStateRepository;
+    private final AchievementIndexCache achievementIndexCache;
+    private final StreakProjectionUpdater streakProjectionUpdater;
+    private final WigRepository wigRepository;
+    private final LeadMeasureRepository leadMeasureRepository;
+
+    /**
+     * 특정 WIG의 연속달성(Streak) 조회
+     */
+    public StreakResponse getStreak(Long wigId) {
+        Wig wig = findWig(wigId);
+        List<LeadMeasure> leadMeasures = findLeadMeasures(wigId);
+
+        return fromProjection(wigId, leadMeasures).orElseGet(() -> {
+            AchievementIndex index = achievementIndexCache.get(wig, leadMeasures);
+            LocalDate today = LocalDate.now();
+            return toResponse(leadMeasures, key -> index.currentStreak(key, today), index::longestStreak);
+        });
+    }
+
+    /**
+     * 프로젝션만으로 연속달성 조회 (달성 인덱스를 만들지 않으므로 비용이 이력 길이와 무관, SQL 2번)
+     * 프로젝션이 아직 없거나 달성 인덱스가 필요하면 empty → 전체 값은 getStreak로 조회
+     */
+    public Optional<StreakResponse> findStreak(Long wigId) {
+        return fromProjection(wigId, findLeadMeasures(wigId));
+    }
+
+    /**
+     * 프로젝션으로 응답 생성
+     * - 프로젝션이 없거나 lead measure 구성과 다르면 재계산을 요청하고 empty
+     * - 미래 날짜 입력이 최근 구간을 차지한 경우 오늘 기준 현재 streak는 인덱스로만 알 수 있으므로 empty
+     */
+    private Optional<StreakResponse> fromProjection(Long wigId, List<LeadMeasure> leadMeasures) {
+        if (leadMeasures.isEmpty()) {
+            return Optional.of(StreakResponse.builder().overallStreak(0).leadMeasureStreaks(new ArrayList<>()).build());
+        }
+
+        Map<Long, StreakState> states = statesByKey(wigId, leadMeasures);
+        if (states == null) {
+            streakProjectionUpdater.requestRebuild(wigId);
+            return Optional.empty();
+        }
+
+        LocalDate today = LocalDate.now();
+        boolean futureRun = states.values().stream()
+                .anyMatch(state -> state.getRunStart() != null && state.getRunStart().isAfter(today));
+        if (futureRun) {
+            return Optional.empty();
+        }
+        return Optional.of(toResponse(leadMeasures,
+                key -> StreakRun.of(states.get(key)).currentStreak(today),
+                key -> states.get(key).getLongestStreak()));
+    }
+
+    /**
+     * streak 프로젝션 버전 (일간 데이터 버전과 합쳐 streak 응답의 ETag로 사용)
+     */
+    public ResourceVersion getProjectionVersion(Long wigId) {
+        return streakStateRepository.findVersionByWigId(wigId);
+    }
+
+    /**
+     * 특정 WIG의 기간별 달성 캘린더 조회
+     * 기간 [startDate, endDate] 중 lead measure별 / 전체 달성 일수와 달성 날짜
+     */
+    public AchievementCalendarResponse getAchievementCalendar(Long wigId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 이후일 수 없습니다.");
+        }
+        Wig wig = findWig(wigId);
+        List<LeadMeasure> leadMeasures = findLeadMeasures(wigId);
+        AchievementIndex index = achievementIndexCache.get(wig, leadMeasures);
+
+        List<AchievementCalendarResponse.LeadMeasureAchievement> achievements = new ArrayList<>();
+        for (LeadMeasure lm : leadMeasures) {
+            achievements.add(AchievementCalendarResponse.LeadMeasureAchievement.builder()
+                    .leadMeasureId(lm.getId())
+                    .name(lm.getName())
+                    .achievedDays(index.countAchieved(lm.getId(), startDate, endDate))
+                    .achievedDates(index.achievedDates(lm.getId(), startDate, endDate))
+                    .build());
+        }
+
+        return AchievementCalendarResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .overallAchievedDays(index.countAchieved(null, startDate, endDate))
+                .overallAchievedDates(index.achievedDates(null, startDate, endDate))
+                .leadMeasureAchievements(achievements)
+                .build();
+    }
+
+    /**
+     * 프로젝션과 달성 인덱스 무효화 (Lead Measure 추가/수정/삭제, WIG 삭제 시)
+     * 커밋 후 재계산되며, 그 전까지 조회는 달성 인덱스로 계산
+     */
+    @Transactional
+    public void invalidate(Long wigId) {
+        log.debug("WIG {}의 streak 프로젝션 무효화", wigId);
+        streakStateRepository.deleteByWigId(wigId);
+        achievementIndexCache.evict(wigId);
+        streakProjectionUpdater.requestRebuild(wigId);
+    }
+
+    /**
+     * lead measure 구성과 맞는 프로젝션 (key: leadMeasureId, null = 전체), 없거나 구성이 다르면 null
+     */
+    private Map<Long, StreakState> statesByKey(Long wigId, List<LeadMeasure> leadMeasures) {
+        Map<Long, StreakState> states = new HashMap<>();
+        streakStateRepository.findByWigId(wigId).forEach(state -> states.put(state.getLeadMeasureId(), state));
+        boolean complete = states.size() == leadMeasures.size() + 1
+                && states.containsKey(null)
+                && leadMeasures.stream().allMatch(lm -> states.containsKey(lm.getId()));
+        return complete ? states : null;
+    }
+
+    /**
+     * @param currentStreak key(leadMeasureId, null = 전체)별 현재 streak
+     * @param longestStreak key별 최장 streak
+     */
+    private StreakResponse toResponse(List<LeadMeasure> leadMeasures,
+                                      ToIntFunction<Long> currentStreak, ToIntFunction<Long> longestStreak) {
+        List<StreakResponse.LeadMeasureStreak> streaks = new ArrayList<>();
+        for (LeadMeasure lm : leadMeasures) {
+            streaks.add(StreakResponse.LeadMeasureStreak.builder()
+                    .leadMeasureId(lm.getId())
+                    .name(lm.getName())
+                    .currentStreak(currentStreak.applyAsInt(lm.getId()))
+                    .longestStreak(longestStreak.applyAsInt(lm.getId()))
+                    .direction(lm.getGoalDirection().name())
+                    .build());
+        }
+
+        return StreakResponse.builder()
+                .overallStreak(currentStreak.applyAsInt(null))
+                .overallLongestStreak(longestStreak.applyAsInt(null))
+                .leadMeasureStreaks(streaks)
+                .build();
+    }
+
+    private Wig findWig(Long wigId) {
+        return wigRepository.findById(wigId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId));
+    }
+
+    private List<LeadMeasure> findLeadMeasures(Long wigId) {
+        return leadMeasureRepository.findByWigId(wigId).stream()
+                .sorted(Comparator.comparing(LeadMeasure::getId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 특정 리드매셔의 일일 목표 달성 여부
+     */
+    public static boolean isAchieved(LeadMeasure lm, Double actual) {
+        if (actual == null) {
+            return false;
+        }
+        return lm.getGoalDirection() == GoalDirection.MAXIMIZE
+                ? actual >= lm.getDailyTarget()
+                : actual <= lm.getDailyTarget();
+    }
+
+    /**
+     * 특정 날짜의 key별 달성 여부 (key: leadMeasureId, null = 전체 동시달성)
+     *
+     * @param values 해당 날짜의 리드매셔별 실적
+     */
+    static Map<Long, Boolean> achievedByKey(Wig wig, Collection<LeadMeasure> leadMeasures, LocalDate date,
+                                            Map<Long, Double> values) {
+        boolean counted = !date.isBefore(wig.getCreatedAt().toLocalDate());
+
+        Map<Long, Boolean> achievedByKey = new HashMap<>();
+        boolean allAchieved = counted && !leadMeasures.isEmpty();
+        for (LeadMeasure lm : leadMeasures) {
+            boolean achieved = counted && isAchieved(lm, values.get(lm.getId()));
+            achievedByKey.put(lm.getId(), achieved);
+            allAchieved &= achieved;
+        }
+        achievedByKey.put(null, allAchieved);
+        return achievedByKey;
+    }
+}
@@ -0,0 +1,57 @@
+package com.fdx.backend.domain.streak;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Streak 프로젝션 엔티티
+ * WIG의 (lead measure별 / 전체) "가장 최근 연속달성 구간"을 저장합니다
+ *
+ * - leadMeasureId가 null이면 전체 동시달성(overall) streak
+ * - runStart ~ runEnd: 가장 최근에 끝난(또는 진행 중인) 연속달성 구간, 달성일이 없으면 둘 다 null
+ * - longestStreak: 전체 이력 중 가장 긴 연속달성 일수
+ *
+ * 현재 streak는 조회 시점의 오늘 날짜로 계산하므로, 날짜가 바뀌어도 별도 갱신이 필요 없음
+ */
+@Entity
+@Table(name = "streak_states",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"wig_id", "lead_measure_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StreakState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "wig_id", nullable = false)
+    private Long wigId;
+
+    /**
+     * 대상 Lead Measure ID (null = 전체 동시달성)
+     */
+    @Column(name = "lead_measure_id")
+    private Long leadMeasureId;
+
+    private LocalDate runStart;
+
+    private LocalDate runEnd;
+
+    @Column(nullable = false)
+    private int longestStreak;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isOverall() {
+        return leadMeasureId == null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.fdx.backend.domain.streak;
+
+import com.fdx.backend.domain.ResourceVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * StreakState Repository
+ */
+@Repository
+public interface StreakStateRepository extends JpaRepository<StreakState, Long> {
+
+    /**
+     * 특정 WIG의 모든 streak 프로젝션 조회 (lead measure별 + 전체)
+     */
+    List<StreakState> findByWigId(Long wigId);
+
+    /**
+     * 특정 WIG의 streak 프로젝션 버전 (streak 조건부 GET용)
+     * 프로젝션은 커밋 후 백그라운드에서 갱신되므로 일간 데이터 버전만으로는 응답이 바뀐 것을 알 수 없음
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(s), MAX(s.updatedAt)) "
+            + "FROM StreakState s WHERE s.wigId = :wigId")
+    ResourceVersion findVersionByWigId(@Param("wigId") Long wigId);
+
+    /**
+     * 특정 WIG의 streak 프로젝션 삭제 (다음 조회 시 재계산)
+     */
+    @Modifying
+    @Query("DELETE FROM StreakState s WHERE s.wigId = :wigId")
+    void deleteByWigId(@Param("wigId") Long wigId);
+}
@@ -0,0 +1,51 @@
+package com.fdx.backend.domain.sync;
+
+import com.fdx.backend.dto.SyncResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 델타 동기화 REST API Controller
+ *
+ * API 엔드포인트:
+ * GET    /api/sync?since={watermark}   - 현재 사용자의 since 이후 변경분 + 삭제 기록 조회 (since 없으면 전체)
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * 델타 동기화
+     * GET /api/sync                                   (최초: 전체)
+     * GET /api/sync?since=2025-02-03T09:15:30.123456  (이전 응답의 watermark)
+     */
+    @GetMapping("/api/sync")
+    public ResponseEntity<SyncResponse> sync(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        log.info("GET /api/sync - 동기화 요청: since={}", since);
+        SyncResponse changes = syncService.getChanges(since);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * 예외 처리
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(
+            IllegalArgumentException e) {
+        log.error("요청 처리 중 오류 발생: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.badRequest().body(error);
+    }
+}
@@ -0,0 +1,113 @@
+package com.fdx.backend.domain.sync;
+
+import com.fdx.backend.domain.commitment.CommitmentRepository;
+import com.fdx.backend.domain.dailydata.DailyDataRepository;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.milestone.MilestoneRepository;
+import com.fdx.backend.domain.weeklydata.WeeklyDataRepository;
+import com.fdx.backend.domain.wig.WigRepository;
+import com.fdx.backend.dto.CommitmentResponse;
+import com.fdx.backend.dto.DailyDataResponse;
+import com.fdx.backend.dto.LeadMeasureResponse;
+import com.fdx.backend.dto.MilestoneResponse;
+import com.fdx.backend.dto.SyncResponse;
+import com.fdx.backend.dto.WeeklyDataResponse;
+import com.fdx.backend.dto.WigResponse;
+import com.fdx.backend.security.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 델타 동기화 Service
+ *
+ * - 각 테이블을 (wig_id 또는 user_id, updated_at) 인덱스로 since 이후만 범위 조회
+ *   → 변경이 없으면 빈 범위 스캔 7번으로 끝남
+ * - 삭제는 SyncTombstoneRecorder가 남긴 tombstone으로 전달
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SyncService {
+
+    /**
+     * watermark를 조회 시각보다 이만큼 앞당김
+     * updatedAt은 커밋 전에 정해지므로, 조회 직전에 커밋된 트랜잭션의 변경을 다음 요청에서 놓치지 않도록 겹치게 함
+     */
+    private static final Duration WATERMARK_OVERLAP = Duration.ofSeconds(5);
+
+    /**
+     * tombstone 보관 기간 (since가 이보다 오래되면 삭제 기록이 없을 수 있으므로 전체 동기화)
+     */
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
+    private static final LocalDateTime FULL_SYNC_SINCE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final CurrentUser currentUser;
+    private final WigRepository wigRepository;
+    private final LeadMeasureRepository leadMeasureRepository;
+    private final DailyDataRepository dailyDataRepository;
+    private final WeeklyDataRepository weeklyDataRepository;
+    private final CommitmentRepository commitmentRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    /**
+     * 현재 사용자의 since 이후 변경분 조회 (since가 없으면 전체)
+     */
+    public SyncResponse getChanges(LocalDateTime since) {
+        Long userId = currentUser.getId();
+        LocalDateTime now = LocalDateTime.now();
+        boolean full = since == null || since.isBefore(now.minus(TOMBSTONE_RETENTION));
+        LocalDateTime from = full ? FULL_SYNC_SINCE : since;
+        log.info("사용자 {}의 동기화 조회: since={}, full={}", userId, since, full);
+
+        List<SyncResponse.Tombstone> deleted = full ? List.of()
+                : syncTombstoneRepository.findByUserIdAndDeletedAtAfterOrderByIdAsc(userId, from).stream()
+                        .map(t -> SyncResponse.Tombstone.builder()
+                                .entityType(t.getEntityType())
+                                .id(t.getEntityId())
+                                .wigId(t.getWigId())
+                                .deletedAt(t.getDeletedAt())
+                                .build())
+                        .collect(Collectors.toList());
+
+        return SyncResponse.builder()
+                .watermark(now.minus(WATERMARK_OVERLAP))
+                .full(full)
+                .wigs(wigRepository.findByUserIdAndUpdatedAtAfter(userId, from).stream()
+                        .map(WigResponse::summary)
+                        .collect(Collectors.toList()))
+                .leadMeasures(leadMeasureRepository.findChangedByUserId(userId, from).stream()
+                        .map(LeadMeasureResponse::from)
+                        .collect(Collectors.toList()))
+                .dailyData(DailyDataResponse.fromRows(dailyDataRepository.findChangedRowsByUserId(userId, from)))
+                .weeklyData(WeeklyDataResponse.fromRows(weeklyDataRepository.findChangedRowsByUserId(userId, from)))
+                .commitments(commitmentRepository.findChangedByUserId(userId, from).stream()
+                        .map(CommitmentResponse::from)
+                        .collect(Collectors.toList()))
+                .milestones(milestoneRepository.findChangedByUserId(userId, from).stream()
+                        .map(MilestoneResponse::from)
+                        .collect(Collectors.toList()))
+                .deleted(deleted)
+                .build();
+    }
+
+    /**
+     * 보관 기간이 지난 tombstone 정리 (매일 새벽)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void purgeExpiredTombstones() {
+        int purged = syncTombstoneRepository.deleteByDeletedAtBefore(LocalDateTime.now().minus(TOMBSTONE_RETENTION));
+        log.info("보관 기간이 지난 tombstone 정리: {}건", purged);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fdx.backend.domain.sync;
+
+import com.fdx.backend.domain.event.WigDataChangedEvent.EntityType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 기록 (델타 동기화용 tombstone)
+ * 삭제된 행은 updatedAt으로 찾을 수 없으므로, 삭제 시 같은 트랜잭션에서 한 줄 남김
+ *
+ * - WIG tombstone은 하위 데이터(Lead Measure, 일간/주간 데이터, Commitment, Milestone)까지 삭제됐다는 뜻
+ * - Lead Measure tombstone은 일간/주간 데이터의 해당 리드매셔 실적도 삭제됐다는 뜻
+ */
+@Entity
+@Table(name = "sync_tombstones",
+        indexes = {
+                @Index(name = "idx_sync_tombstones_user_deleted", columnList = "user_id, deleted_at"),
+                @Index(name = "idx_sync_tombstones_deleted_at", columnList = "deleted_at") // 보관 기간 지난 것 정리
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * WIG 소유자 (WIG 자체가 삭제된 뒤에도 사용자별로 조회하기 위해 직접 저장)
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "wig_id", nullable = false)
+    private Long wigId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,36 @@
+package com.fdx.backend.domain.sync;
+
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 삭제 이벤트를 tombstone으로 기록
+ *
+ * BEFORE_COMMIT 단계라 삭제와 같은 트랜잭션에서 저장됨 (삭제가 롤백되면 tombstone도 롤백)
+ * 삭제 전에는 항상 소유자 확인을 거치므로 소유자 ID는 메모리 인덱스에서 SQL 없이 얻음
+ */
+@Component
+@RequiredArgsConstructor
+public class SyncTombstoneRecorder {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWigDataChanged(WigDataChangedEvent event) {
+        if (event.changeType() != ChangeType.DELETED || event.entityId() == null) {
+            return;
+        }
+        syncTombstoneRepository.save(SyncTombstone.builder()
+                .userId(wigOwnershipIndex.ownerOf(event.wigId()))
+                .wigId(event.wigId())
+                .entityType(event.entityType())
+                .entityId(event.entityId())
+                .build());
+    }
+}
@@ -0,0 +1,36 @@
+package com.fdx.backend.domain.sync;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SyncTombstone Repository
+ */
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    /**
+     * 특정 사용자의 since 이후 삭제 기록 (user_id, deleted_at 인덱스 범위 스캔)
+     */
+    List<SyncTombstone> findByUserIdAndDeletedAtAfterOrderByIdAsc(Long userId, LocalDateTime since);
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리
+     */
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 특정 사용자의 삭제 기록 전체 삭제 (계정 삭제용)
+     */
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
  * POST /api/auth/signup - 회원가입
  * POST /api/auth/login  - 로그인 (JWT 토큰 발급)
  * GET  /api/auth/me     - 현재 로그인한 사용자 정보 조회
+ * DELETE /api/auth/me   - 회원 탈퇴
  */
 @RestController // @Controller + @ResponseBody, 리턴값이 전부 JSON으로 직렬화
 @RequestMapping("/api/auth") // 이 컨트롤러의 공통 URL prefix
@@ -79,4 +80,20 @@ public class AuthController {
         UserResponse response = authService.getCurrentUserInfo();
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 회원 탈퇴
+     * DELETE /api/auth/me
+     */
+    @Operation(summary = "회원 탈퇴", description = "계정과 모든 WIG를 삭제합니다 (데이터는 백그라운드에서 정리)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "탈퇴 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @DeleteMapping("/me")
+    public ResponseEntity<Void> deleteAccount() {
+        log.info("DELETE /api/auth/me - 회원 탈퇴 요청");
+        authService.deleteAccount();
+        return ResponseEntity.noContent().build();
+    }
 }
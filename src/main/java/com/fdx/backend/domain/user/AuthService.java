@@ -1,19 +1,28 @@
 package com.fdx.backend.domain.user;
 
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
+import com.fdx.backend.domain.wig.WigRepository;
 import com.fdx.backend.dto.LoginRequest;
 import com.fdx.backend.dto.SignupRequest;
 import com.fdx.backend.dto.TokenResponse;
 import com.fdx.backend.dto.UserResponse;
+import com.fdx.backend.security.CurrentUser;
 import com.fdx.backend.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 인증 관련 비즈니스 로직 Service
@@ -28,6 +37,10 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder; // 평문 비밀번호 → 해시
     private final JwtTokenProvider jwtTokenProvider; // JWT 생성/검증 담당 (직접 구현한 클래스)
     private final AuthenticationManager authenticationManager; // Spring Security의 핵심, 아이디/비밀번호가 맞는지 실제 검증하는 놈
+    private final CurrentUser currentUser; // 요청 스코프 현재 사용자 (JWT의 userId 사용)
+    private final WigRepository wigRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입
@@ -72,7 +85,7 @@ public class AuthService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
         // JWT 토큰 생성, '로그인 성공 증명서 발급'
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+        String token = jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getRole().name());
 
         log.info("로그인 성공: email={}", request.getEmail());
 
@@ -81,18 +94,10 @@ public class AuthService {
 
 
     /**
-     * 현재 로그인한 사용자 조회
+     * 현재 로그인한 사용자 조회 (요청당 1번만 조회)
      */
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication(); // 인증정보 꺼내기
-
-        if (authentication == null || !authentication.isAuthenticated()) { // 인증 객체가 없거나, 인증되지 않은 상태
-            throw new IllegalStateException("인증 정보가 없습니다");
-        }
-
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
+        return currentUser.getUser();
     }
 
     /**
@@ -103,4 +108,34 @@ public class AuthService {
         return UserResponse.from(user);
     }
 
+    /**
+     * 회원 탈퇴
+     * 계정과 WIG에 삭제 표시만 하고 바로 응답 (로그인/조회/기존 토큰 인증에서 즉시 빠짐)
+     * 실제 데이터는 DeletionPurger가 저부하 시간대에 나눠서 삭제
+     */
+    @Transactional
+    public void deleteAccount() {
+        Long userId = currentUser.getId();
+        log.info("회원 탈퇴: userId={}", userId);
+
+        List<Long> wigIds = wigRepository.findIdsByUserId(userId);
+        // 삭제 표시 후에는 소유자를 조회할 수 없으므로 tombstone 기록 전에 인덱스에 채워 둠
+        wigIds.forEach(wigOwnershipIndex::ownerOf);
+
+        LocalDateTime now = LocalDateTime.now();
+        wigRepository.markDeletedByUserId(userId, now);
+        if (userRepository.markDeleted(userId, "deleted-" + userId + "@deleted.invalid", now) == 0) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+        wigIds.forEach(wigId -> eventPublisher.publishEvent(WigDataChangedEvent.wig(wigId, ChangeType.DELETED)));
+        // 커밋 후 이 서버의 토큰 캐시에서 바로 제거 (다른 서버는 jwt.cache.revalidate-after 안에 DB 확인으로 거부)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jwtTokenProvider.revokeUser(userId);
+            }
+        });
+
+        log.info("회원 탈퇴 표시 완료: userId={}, WIG {}개", userId, wigIds.size());
+    }
 }
@@ -4,6 +4,7 @@ import com.fdx.backend.domain.wig.Wig;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,12 +17,13 @@ import java.util.List;
  * 일반 로그인 + OAuth 로그인 모두 지원
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_deleted_at", columnList = "deleted_at"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@SQLRestriction("deleted_at IS NULL") // 탈퇴한 사용자는 로그인/조회 대상에서 제외
 public class User {
 
     @Id
@@ -92,6 +94,12 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 탈퇴 시각 (null = 활성 계정)
+     * 탈퇴하면 즉시 숨겨지고 계정/WIG 데이터는 백그라운드에서 삭제됨
+     */
+    private LocalDateTime deletedAt;
+
     /**
      * 편의 메서드: WIG 추가
      */
@@ -1,12 +1,19 @@
 package com.fdx.backend.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * User Repository
+ *
+ * 탈퇴(삭제 표시)한 사용자는 @SQLRestriction으로 조회에서 빠짐 (정리용 조회만 네이티브 쿼리)
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -21,5 +28,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * 탈퇴 표시
+     * 이메일 unique 제약 때문에 같은 이메일로 재가입할 수 있도록 이메일도 함께 바꿈
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.deletedAt = :now, u.email = :email WHERE u.id = :id")
+    int markDeleted(@Param("id") Long id, @Param("email") String email, @Param("now") LocalDateTime now);
 
+    /**
+     * 정리 대기 중인 탈퇴 사용자 id (먼저 탈퇴한 순서)
+     */
+    @Query(value = "SELECT id FROM users WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    /**
+     * 정리 대기 중인 탈퇴 사용자 수 (정리 진행률 메트릭용)
+     */
+    @Query(value = "SELECT COUNT(*) FROM users WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    long countDeleted();
 }
@@ -19,7 +19,11 @@ import java.util.List;
  * 리드매셔 값은 WeeklyLeadData 테이블에서 (lead_measure_id, value)로 관리
  */
 @Entity
-@Table(name = "weekly_data", uniqueConstraints = @UniqueConstraint(columnNames = {"wig_id", "week"}))
+@Table(name = "weekly_data", uniqueConstraints = @UniqueConstraint(columnNames = {"wig_id", "week"}),
+        indexes = {
+                @Index(name = "idx_weekly_data_wig_updated", columnList = "wig_id, updated_at"),
+                @Index(name = "idx_weekly_data_wig_week_key", columnList = "wig_id, week_key") // 주차 순서/범위 조회
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +38,13 @@ public class WeeklyData {
     @Column(nullable = false, length = 10)
     private String week;
 
+    /**
+     * 이 주간 데이터가 속한 ISO 주차 (IsoWeek 키), 주차 순 목록/기간 조회에 사용
+     * 요청 date → 같은 라벨의 일간 데이터 주차 순으로 결정
+     * 알 수 없으면 null, 나중에 그 라벨의 일간 데이터가 저장되면 WeekKeyBackfiller가 채움
+     */
+    private Integer weekKey;
+
     @Column
     private Double milestoneProgress;
 
@@ -1,14 +1,18 @@
 package com.fdx.backend.domain.weeklydata;
 
+import com.fdx.backend.domain.ResourceVersion;
 import com.fdx.backend.dto.WeeklyDataRequest;
 import com.fdx.backend.dto.WeeklyDataResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,11 +21,13 @@ import java.util.Map;
  * WeeklyData REST API Controller
  *
  * API 엔드포인트:
- * GET    /api/wigs/{wigId}/weekly-data             - 특정 WIG의 모든 주간 데이터 조회
+ * GET    /api/wigs/{wigId}/weekly-data             - 특정 WIG의 모든 주간 데이터 조회 (?from=&to= 기간 지정 가능)
  * GET    /api/wigs/{wigId}/weekly-data/{week}      - 특정 WIG의 특정 주차 데이터 조회
  * POST   /api/weekly-data                           - 주간 데이터 생성
  * PUT    /api/weekly-data/{id}                      - 주간 데이터 수정
  * DELETE /api/weekly-data/{id}                      - 주간 데이터 삭제
+ *
+ * 조회 API는 ETag 조건부 요청 지원 (주간 데이터 + Lead Measure 버전이 같으면 304)
  */
 @RestController
 @RequiredArgsConstructor
@@ -31,14 +37,22 @@ public class WeeklyDataController {
     private final WeeklyDataService weeklyDataService;
 
     /**
-     * 특정 WIG의 모든 주간 데이터 조회
+     * 특정 WIG의 모든 주간 데이터 조회 (주차 순서대로)
      * GET /api/wigs/{wigId}/weekly-data
+     * GET /api/wigs/{wigId}/weekly-data?from=2025-01-01&to=2025-03-31 (두 날짜가 속한 주차 범위)
      */
     @GetMapping("/api/wigs/{wigId}/weekly-data")
     public ResponseEntity<List<WeeklyDataResponse>> getWeeklyDataByWigId(
-            @PathVariable Long wigId) {
-        log.info("GET /api/wigs/{}/weekly-data - 주간 데이터 조회 요청", wigId);
-        List<WeeklyDataResponse> weeklyData = weeklyDataService.getWeeklyDataByWigId(wigId);
+            @PathVariable Long wigId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+        log.info("GET /api/wigs/{}/weekly-data - 주간 데이터 조회 요청: {} ~ {}", wigId, from, to);
+        ResourceVersion version = weeklyDataService.getWeeklyDataVersion(wigId);
+        if (webRequest.checkNotModified(from == null && to == null ? version.etag() : version.etag(from + "~" + to))) {
+            return null; // 304 Not Modified (엔티티 조회/JSON 직렬화 생략)
+        }
+        List<WeeklyDataResponse> weeklyData = weeklyDataService.getWeeklyDataByWigId(wigId, from, to);
         return ResponseEntity.ok(weeklyData);
     }
 
@@ -49,8 +63,12 @@ public class WeeklyDataController {
     @GetMapping("/api/wigs/{wigId}/weekly-data/{week}")
     public ResponseEntity<WeeklyDataResponse> getWeeklyDataByWigIdAndWeek(
             @PathVariable Long wigId,
-            @PathVariable String week) {
+            @PathVariable String week,
+            WebRequest webRequest) {
         log.info("GET /api/wigs/{}/weekly-data/{} - 특정 주차 데이터 조회 요청", wigId, week);
+        if (webRequest.checkNotModified(weeklyDataService.getWeeklyDataVersion(wigId).etag())) {
+            return null;
+        }
         WeeklyDataResponse weeklyData = weeklyDataService.getWeeklyDataByWigIdAndWeek(wigId, week);
         return ResponseEntity.ok(weeklyData);
     }
@@ -1,13 +1,26 @@
 package com.fdx.backend.domain.weeklydata;
 
+import com.fdx.backend.domain.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * WeeklyData Repository
+ *
+ * 조회 전용 API는 엔티티 대신 WeeklyDataRow 프로젝션으로 읽음 (영속성 컨텍스트/dirty checking 없음)
  */
 @Repository
 public interface WeeklyDataRepository extends JpaRepository<WeeklyData, Long> {
@@ -15,7 +28,7 @@ public interface WeeklyDataRepository extends JpaRepository<WeeklyData, Long> {
     /**
      * 특정 WIG의 모든 주간 데이터 조회 (주차 순서대로)
      */
-    List<WeeklyData> findByWigIdOrderByWeekAsc(Long wigId);
+    List<WeeklyData> findByWigIdOrderByWeekKeyAsc(Long wigId);
 
     /**
      * 특정 WIG의 특정 주차 데이터 조회
@@ -26,4 +39,93 @@ public interface WeeklyDataRepository extends JpaRepository<WeeklyData, Long> {
      * 특정 WIG의 주간 데이터 존재 여부
      */
     boolean existsByWigIdAndWeek(Long wigId, String week);
+
+    /**
+     * 특정 WIG의 주간 데이터 버전 (조건부 GET용, 리드매셔 실적을 바꾸면 상위 행 updatedAt도 갱신됨)
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(w), MAX(w.updatedAt)) "
+            + "FROM WeeklyData w WHERE w.wig.id = :wigId")
+    ResourceVersion findVersionByWigId(@Param("wigId") Long wigId);
+
+    String ROW_SELECT = "SELECT new com.fdx.backend.domain.weeklydata.WeeklyDataRow("
+            + "w.id, w.week, w.weekKey, w.milestoneProgress, w.actual, w.target, w.wig.id, w.createdAt, w.updatedAt, "
+            + "v.leadMeasure.id, v.value) "
+            + "FROM WeeklyData w LEFT JOIN w.leadValues v ";
+
+    /**
+     * 특정 WIG의 모든 주간 데이터 행 조회 (주차 순서대로, 주차 키가 없는 행이 먼저)
+     */
+    @Query(ROW_SELECT + "WHERE w.wig.id = :wigId ORDER BY w.weekKey ASC, w.id ASC")
+    List<WeeklyDataRow> findRowsByWigId(@Param("wigId") Long wigId);
+
+    /**
+     * 특정 WIG의 주차 키 범위 주간 데이터 행 조회 (wig_id + week_key 인덱스 범위 스캔, 주차 순서대로)
+     */
+    @Query(ROW_SELECT + "WHERE w.wig.id = :wigId AND w.weekKey BETWEEN :fromWeekKey AND :toWeekKey "
+            + "ORDER BY w.weekKey ASC, w.id ASC")
+    List<WeeklyDataRow> findRowsByWigIdAndWeekKeyBetween(@Param("wigId") Long wigId,
+                                                         @Param("fromWeekKey") int fromWeekKey,
+                                                         @Param("toWeekKey") int toWeekKey);
+
+    /**
+     * 특정 WIG의 특정 주차 데이터 행 조회
+     */
+    @Query(ROW_SELECT + "WHERE w.wig.id = :wigId AND w.week = :week")
+    List<WeeklyDataRow> findRowsByWigIdAndWeek(@Param("wigId") Long wigId, @Param("week") String week);
+
+    /**
+     * 특정 사용자의 since 이후 생성/수정된 주간 데이터 행 (델타 동기화용, id 순서)
+     */
+    @Query(ROW_SELECT + "WHERE w.wig.user.id = :userId AND w.updatedAt > :since ORDER BY w.id ASC")
+    List<WeeklyDataRow> findChangedRowsByUserId(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 특정 WIG의 모든 주간 데이터 행을 DB 커서로 스트리밍 (내보내기용, 트랜잭션 안에서 사용 후 close 필요)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ROW_SELECT + "WHERE w.wig.id = :wigId ORDER BY w.weekKey ASC, w.id ASC")
+    Stream<WeeklyDataRow> streamRowsByWigId(@Param("wigId") Long wigId);
+
+    /**
+     * 특정 WIG의 주간 데이터 id limit개 (청크 삭제용)
+     */
+    @Query("SELECT w.id FROM WeeklyData w WHERE w.wig.id = :wigId")
+    List<Long> findIdsByWigId(@Param("wigId") Long wigId, Limit limit);
+
+    /**
+     * 주간 데이터의 updated_at 갱신 (리드매셔 실적만 바뀌어도 버전/ETag가 바뀌도록)
+     * 대기 중인 실적 변경을 먼저 flush 한 뒤 상위 행만 UPDATE 1문장
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WeeklyData w SET w.updatedAt = :now WHERE w.id = :id")
+    int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 리드매셔 실적들이 속한 주간 데이터의 updated_at 갱신 (실적 벌크 삭제 전에 호출)
+     */
+    @Modifying
+    @Query("UPDATE WeeklyData w SET w.updatedAt = :now "
+            + "WHERE w.id IN (SELECT v.weeklyData.id FROM WeeklyLeadData v WHERE v.id IN :leadDataIds)")
+    int touchByLeadDataIdIn(@Param("leadDataIds") Collection<Long> leadDataIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 주차 키가 없는 주간 데이터에 같은 라벨의 일간 데이터 주차 키 채움 (일간 데이터가 나중에 생긴 경우)
+     * updatedAt도 갱신해서 델타 동기화/ETag에 반영
+     */
+    @Modifying
+    @Query("UPDATE WeeklyData w SET w.updatedAt = :now, w.weekKey = "
+            + "(SELECT MIN(d.weekKey) FROM DailyData d WHERE d.wig.id = :wigId AND d.week = :week) "
+            + "WHERE w.wig.id = :wigId AND w.week = :week AND w.weekKey IS NULL "
+            + "AND EXISTS (SELECT 1 FROM DailyData d WHERE d.wig.id = :wigId AND d.week = :week)")
+    int fillWeekKey(@Param("wigId") Long wigId, @Param("week") String week, @Param("now") LocalDateTime now);
+
+    /**
+     * WIG 전체에서 주차 키가 없는 주간 데이터에 같은 라벨의 일간 데이터 주차 키 채움 (일괄 생성처럼 라벨을 모를 때)
+     */
+    @Modifying
+    @Query("UPDATE WeeklyData w SET w.updatedAt = :now, w.weekKey = "
+            + "(SELECT MIN(d.weekKey) FROM DailyData d WHERE d.wig.id = :wigId AND d.week = w.week) "
+            + "WHERE w.wig.id = :wigId AND w.weekKey IS NULL "
+            + "AND EXISTS (SELECT 1 FROM DailyData d WHERE d.wig.id = :wigId AND d.week = w.week)")
+    int fillWeekKeysByWigId(@Param("wigId") Long wigId, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,23 @@
+package com.fdx.backend.domain.weeklydata;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주간 데이터 조회용 플랫 프로젝션
+ * 주간 데이터 1건 × 리드매셔 실적 1건당 한 행 (실적이 없으면 leadMeasureId, value가 null인 한 행)
+ *
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 바로 응답으로 묶기 위해 사용
+ */
+public record WeeklyDataRow(
+        Long id,
+        String week,
+        Integer weekKey,
+        Double milestoneProgress,
+        Double actual,
+        Double target,
+        Long wigId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long leadMeasureId,
+        Double value) {
+}
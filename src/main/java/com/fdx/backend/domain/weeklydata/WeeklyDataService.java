@@ -1,19 +1,26 @@
 package com.fdx.backend.domain.weeklydata;
 
+import com.fdx.backend.domain.IsoWeek;
+import com.fdx.backend.domain.ResourceVersion;
+import com.fdx.backend.domain.dailydata.DailyDataRepository;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
 import com.fdx.backend.domain.leadmeasure.LeadMeasure;
 import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
 import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
 import com.fdx.backend.domain.wig.WigRepository;
 import com.fdx.backend.dto.WeeklyDataRequest;
 import com.fdx.backend.dto.WeeklyDataResponse;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -28,22 +35,36 @@ public class WeeklyDataService {
 
     private final WeeklyDataRepository weeklyDataRepository;
     private final WigRepository wigRepository;
+    private final DailyDataRepository dailyDataRepository;
+    private final WigOwnershipIndex wigOwnershipIndex;
     private final LeadMeasureRepository leadMeasureRepository;
-    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 특정 WIG의 모든 주간 데이터 조회
+     * 특정 WIG의 주간 데이터 버전 (조건부 GET용)
+     * 응답의 leadValues가 Lead Measure 구성(삭제 포함)에 따라 달라지므로 Lead Measure 버전도 합쳐서 계산
      */
-    public List<WeeklyDataResponse> getWeeklyDataByWigId(Long wigId) {
-        log.info("WIG {}의 주간 데이터 조회", wigId);
+    public ResourceVersion getWeeklyDataVersion(Long wigId) {
+        wigOwnershipIndex.checkAccess(wigId);
+        return weeklyDataRepository.findVersionByWigId(wigId)
+                .and(leadMeasureRepository.findVersionByWigId(wigId));
+    }
 
-        if (!wigRepository.existsById(wigId)) {
-            throw new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId);
-        }
+    /**
+     * 특정 WIG의 주간 데이터 조회 (주차 순서대로)
+     * from / to가 있으면 그 날짜들이 속한 주차 범위만 (주차를 알 수 없는 주간 데이터는 제외)
+     */
+    public List<WeeklyDataResponse> getWeeklyDataByWigId(Long wigId, LocalDate from, LocalDate to) {
+        log.info("WIG {}의 주간 데이터 조회: {} ~ {}", wigId, from, to);
+
+        wigOwnershipIndex.checkAccess(wigId);
 
-        return weeklyDataRepository.findByWigIdOrderByWeekAsc(wigId).stream()
-                .map(WeeklyDataResponse::from)
-                .collect(Collectors.toList());
+        if (from == null && to == null) {
+            return WeeklyDataResponse.fromRows(weeklyDataRepository.findRowsByWigId(wigId));
+        }
+        return WeeklyDataResponse.fromRows(weeklyDataRepository.findRowsByWigIdAndWeekKeyBetween(wigId,
+                from != null ? IsoWeek.keyOf(from) : 0,
+                to != null ? IsoWeek.keyOf(to) : Integer.MAX_VALUE));
     }
 
     /**
@@ -52,11 +73,11 @@ public class WeeklyDataService {
     public WeeklyDataResponse getWeeklyDataByWigIdAndWeek(Long wigId, String week) {
         log.info("WIG {}의 {} 데이터 조회", wigId, week);
 
-        WeeklyData weeklyData = weeklyDataRepository.findByWigIdAndWeek(wigId, week)
+        return WeeklyDataResponse.fromRows(weeklyDataRepository.findRowsByWigIdAndWeek(wigId, week))
+                .stream()
+                .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException(
                         String.format("WIG %d의 %s 데이터를 찾을 수 없습니다", wigId, week)));
-
-        return WeeklyDataResponse.from(weeklyData);
     }
 
     /**
@@ -67,6 +88,7 @@ public class WeeklyDataService {
         log.info("주간 데이터 생성: wigId={}, week={}", request.getWigId(), request.getWeek());
 
         // WIG 조회
+        wigOwnershipIndex.checkAccess(request.getWigId());
         Wig wig = wigRepository.findById(request.getWigId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 WIG를 찾을 수 없습니다: " + request.getWigId()));
@@ -85,6 +107,7 @@ public class WeeklyDataService {
         // 주간 데이터 생성
         WeeklyData weeklyData = WeeklyData.builder()
                 .week(request.getWeek())
+                .weekKey(weekKeyOf(request.getWigId(), request))
                 .milestoneProgress(request.getMilestoneProgress())
                 .actual(request.getActual())
                 .target(request.getTarget())
@@ -108,6 +131,8 @@ public class WeeklyDataService {
         }
 
         WeeklyData savedWeeklyData = weeklyDataRepository.save(weeklyData);
+        eventPublisher.publishEvent(WigDataChangedEvent.weeklyData(wig.getId(), savedWeeklyData.getId(),
+                savedWeeklyData.getWeek(), ChangeType.CREATED));
         log.info("주간 데이터 생성 완료: id={}", savedWeeklyData.getId());
 
         return WeeklyDataResponse.from(savedWeeklyData);
@@ -123,8 +148,13 @@ public class WeeklyDataService {
         WeeklyData weeklyData = weeklyDataRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 주간 데이터를 찾을 수 없습니다: " + id));
+        wigOwnershipIndex.checkAccess(weeklyData.getWig().getId());
 
         // 기본 필드 수정
+        String previousWeek = weeklyData.getWeek();
+        if (request.getDate() != null || !Objects.equals(previousWeek, request.getWeek())) {
+            weeklyData.setWeekKey(weekKeyOf(weeklyData.getWig().getId(), request));
+        }
         weeklyData.setWeek(request.getWeek());
         weeklyData.setMilestoneProgress(request.getMilestoneProgress());
         weeklyData.setActual(request.getActual());
@@ -134,27 +164,26 @@ public class WeeklyDataService {
         Map<Long, LeadMeasure> leadMeasureMap = leadMeasureRepository.findByWigId(weeklyData.getWig().getId())
                 .stream().collect(Collectors.toMap(LeadMeasure::getId, lm -> lm));
 
-        // 기존 leadValues를 교체 (orphanRemoval=true로 기존 것은 자동 삭제)
-        weeklyData.getLeadValues().clear();
-        entityManager.flush(); // DELETE를 먼저 실행하여 unique constraint 위반 방지
-        if (request.getLeadValues() != null) {
-            for (Map.Entry<Long, Double> entry : request.getLeadValues().entrySet()) {
-                LeadMeasure lm = leadMeasureMap.get(entry.getKey());
-                if (lm == null) {
-                    throw new IllegalArgumentException("해당 Lead Measure를 찾을 수 없습니다: " + entry.getKey());
-                }
-                WeeklyLeadData wld = WeeklyLeadData.builder()
-                        .weeklyData(weeklyData)
-                        .leadMeasure(lm)
-                        .value(entry.getValue())
-                        .build();
-                weeklyData.getLeadValues().add(wld);
-            }
+        // 기존 leadValues와 비교해 바뀐 것만 반영, 실적만 바뀌어도 상위 행 updatedAt 갱신 → ETag 변경
+        LocalDateTime touchedAt = null;
+        if (updateLeadValues(weeklyData, leadMeasureMap, request.getLeadValues())) {
+            touchedAt = LocalDateTime.now();
+            weeklyDataRepository.touch(id, touchedAt);
         }
 
+        Long wigId = weeklyData.getWig().getId();
+        if (!Objects.equals(previousWeek, weeklyData.getWeek())) {
+            eventPublisher.publishEvent(WigDataChangedEvent.weeklyData(wigId, id, previousWeek, ChangeType.UPDATED));
+        }
+        eventPublisher.publishEvent(WigDataChangedEvent.weeklyData(wigId, id, weeklyData.getWeek(), ChangeType.UPDATED));
+
         log.info("주간 데이터 수정 완료: id={}", id);
 
-        return WeeklyDataResponse.from(weeklyData);
+        WeeklyDataResponse response = WeeklyDataResponse.from(weeklyData);
+        if (touchedAt != null) {
+            response.setUpdatedAt(touchedAt);
+        }
+        return response;
     }
 
     /**
@@ -164,11 +193,79 @@ public class WeeklyDataService {
     public void deleteWeeklyData(Long id) {
         log.info("주간 데이터 삭제: id={}", id);
 
-        if (!weeklyDataRepository.existsById(id)) {
-            throw new IllegalArgumentException("해당 주간 데이터를 찾을 수 없습니다: " + id);
-        }
+        WeeklyData weeklyData = weeklyDataRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 주간 데이터를 찾을 수 없습니다: " + id));
+        wigOwnershipIndex.checkAccess(weeklyData.getWig().getId());
 
-        weeklyDataRepository.deleteById(id);
+        weeklyDataRepository.delete(weeklyData);
+        eventPublisher.publishEvent(WigDataChangedEvent.weeklyData(weeklyData.getWig().getId(), id,
+                weeklyData.getWeek(), ChangeType.DELETED));
         log.info("주간 데이터 삭제 완료: id={}", id);
     }
+
+    /**
+     * 리드매셔 실적 diff 반영
+     * - 값이 바뀐 실적: 기존 행 UPDATE
+     * - 요청에 없는 실적: 삭제 (orphanRemoval)
+     * - 새 리드매셔 실적: INSERT
+     * 값 하나만 바꾸면 UPDATE 한 번으로 끝남
+     *
+     * @return 실적이 하나라도 바뀌었는지
+     */
+    private boolean updateLeadValues(WeeklyData weeklyData, Map<Long, LeadMeasure> leadMeasureMap, Map<Long, Double> requested) {
+        Map<Long, Double> values = requested != null ? requested : Map.of();
+        for (Long leadMeasureId : values.keySet()) {
+            if (!leadMeasureMap.containsKey(leadMeasureId)) {
+                throw new IllegalArgumentException("해당 Lead Measure를 찾을 수 없습니다: " + leadMeasureId);
+            }
+        }
+
+        boolean changed = false;
+        Set<Long> existing = new HashSet<>();
+        Iterator<WeeklyLeadData> iterator = weeklyData.getLeadValues().iterator();
+        while (iterator.hasNext()) {
+            WeeklyLeadData wld = iterator.next();
+            Long leadMeasureId = wld.getLeadMeasure().getId();
+            if (!values.containsKey(leadMeasureId)) {
+                iterator.remove();
+                changed = true;
+                continue;
+            }
+            existing.add(leadMeasureId);
+            Double value = values.get(leadMeasureId);
+            if (!Objects.equals(wld.getValue(), value)) {
+                wld.setValue(value);
+                changed = true;
+            }
+        }
+
+        for (Map.Entry<Long, Double> entry : values.entrySet()) {
+            if (!existing.contains(entry.getKey())) {
+                weeklyData.getLeadValues().add(WeeklyLeadData.builder()
+                        .weeklyData(weeklyData)
+                        .leadMeasure(leadMeasureMap.get(entry.getKey()))
+                        .value(entry.getValue())
+                        .build());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 주간 데이터의 ISO 주차 (요청 date 우선, 없으면 같은 라벨의 일간 데이터 주차)
+     * date가 라벨의 일간 데이터와 다른 주면 400 (같은 라벨이 두 주차로 갈라지지 않도록)
+     */
+    private Integer weekKeyOf(Long wigId, WeeklyDataRequest request) {
+        Integer labelWeekKey = dailyDataRepository.findWeekKeyByWigIdAndWeek(wigId, request.getWeek());
+        if (request.getDate() == null) {
+            return labelWeekKey;
+        }
+        int weekKey = IsoWeek.keyOf(request.getDate());
+        if (labelWeekKey != null && labelWeekKey != weekKey) {
+            throw new IllegalArgumentException("date가 주차 라벨 " + request.getWeek() + "의 주에 속하지 않습니다: "
+                    + request.getDate());
+        }
+        return weekKey;
+    }
 }
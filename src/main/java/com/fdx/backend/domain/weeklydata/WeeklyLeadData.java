@@ -10,7 +10,8 @@ import lombok.*;
  */
 @Entity
 @Table(name = "weekly_lead_data",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"weekly_data_id", "lead_measure_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"weekly_data_id", "lead_measure_id"}),
+        indexes = @Index(name = "idx_weekly_lead_data_lead_measure", columnList = "lead_measure_id")) // Lead Measure 삭제
 @Getter
 @Setter
 @NoArgsConstructor
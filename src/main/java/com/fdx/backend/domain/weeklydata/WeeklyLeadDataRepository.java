@@ -1,8 +1,13 @@
 package com.fdx.backend.domain.weeklydata;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,5 +20,16 @@ public interface WeeklyLeadDataRepository extends JpaRepository<WeeklyLeadData,
 
     void deleteByWeeklyDataId(Long weeklyDataId);
 
-    void deleteByLeadMeasureId(Long leadMeasureId);
+    /**
+     * 특정 Lead Measure의 주간 실적 id limit개 (청크 삭제용)
+     */
+    @Query("SELECT wld.id FROM WeeklyLeadData wld WHERE wld.leadMeasure.id = :leadMeasureId")
+    List<Long> findIdsByLeadMeasureId(@Param("leadMeasureId") Long leadMeasureId, Limit limit);
+
+    /**
+     * 여러 주간 데이터의 리드매셔 실적을 한 문장으로 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM WeeklyLeadData wld WHERE wld.weeklyData.id IN :weeklyDataIds")
+    int deleteByWeeklyDataIdIn(@Param("weeklyDataIds") Collection<Long> weeklyDataIds);
 }
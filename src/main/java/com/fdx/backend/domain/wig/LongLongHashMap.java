@@ -0,0 +1,112 @@
+package com.fdx.backend.domain.wig;
+
+/**
+ * long → long 오픈 어드레싱 해시맵 (박싱 없음)
+ *
+ * - key 0은 빈 칸 표시로 사용하므로 key는 양수만 허용
+ * - 키와 값을 한 배열에 번갈아 저장 ([k0, v0, k1, v1, ...])
+ *   → 배열 참조 하나만 읽으면 되므로 낙관적 읽기(StampedLock)와 함께 쓸 수 있음
+ * - 쓰기는 외부에서 동기화해야 함
+ */
+class LongLongHashMap {
+
+    static final long NO_VALUE = -1L;
+
+    private static final int MIN_CAPACITY = 64;
+
+    private long[] table = new long[MIN_CAPACITY * 2];
+    private int size;
+
+    /**
+     * @return 없으면 NO_VALUE
+     */
+    long get(long key) {
+        long[] t = table;
+        int mask = (t.length >> 1) - 1;
+        int slot = hash(key) & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            long k = t[slot << 1];
+            if (k == key) {
+                return t[(slot << 1) + 1];
+            }
+            if (k == 0) {
+                return NO_VALUE;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    void put(long key, long value) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("key는 양수여야 합니다: " + key);
+        }
+        if ((size + 1) * 2 > table.length >> 1) { // 사용률 50% 초과 시 확장
+            resize(table.length);
+        }
+        if (insert(table, key, value)) {
+            size++;
+        }
+    }
+
+    void remove(long key) {
+        long[] t = table;
+        int mask = (t.length >> 1) - 1;
+        int slot = hash(key) & mask;
+        while (t[slot << 1] != key) {
+            if (t[slot << 1] == 0) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // 뒤따르는 항목들을 당겨서 탐색 체인 유지 (tombstone 없음)
+        int gap = slot;
+        for (int next = (gap + 1) & mask; t[next << 1] != 0; next = (next + 1) & mask) {
+            int home = hash(t[next << 1]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                t[gap << 1] = t[next << 1];
+                t[(gap << 1) + 1] = t[(next << 1) + 1];
+                gap = next;
+            }
+        }
+        t[gap << 1] = 0;
+        t[(gap << 1) + 1] = 0;
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize(int newSlots) {
+        long[] old = table;
+        long[] t = new long[newSlots * 2];
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] != 0) {
+                insert(t, old[i], old[i + 1]);
+            }
+        }
+        table = t; // 새 배열을 다 채운 뒤 교체
+    }
+
+    /**
+     * @return 새 key면 true, 기존 값 덮어쓰기면 false
+     */
+    private static boolean insert(long[] t, long key, long value) {
+        int mask = (t.length >> 1) - 1;
+        int slot = hash(key) & mask;
+        while (t[slot << 1] != 0 && t[slot << 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+        boolean added = t[slot << 1] == 0;
+        t[(slot << 1) + 1] = value;
+        t[slot << 1] = key;
+        return added;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L; // 연속된 ID가 한 구간에 몰리지 않도록 섞음
+        return (int) (h ^ (h >>> 32));
+    }
+}
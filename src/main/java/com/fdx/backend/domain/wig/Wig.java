@@ -7,9 +7,14 @@ import com.fdx.backend.domain.leadmeasure.LeadMeasure;
 import com.fdx.backend.domain.milestone.Milestone;
 import com.fdx.backend.domain.weeklydata.WeeklyData;
 import com.fdx.backend.domain.user.User;
+import com.fdx.backend.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -22,12 +27,19 @@ import java.util.List;
  * 4DX의 핵심 목표를 나타냅니다
  */
 @Entity // jpa 엔티티임을 선언. jpa가 조회함
-@Table(name = "wigs") // 매핑될 테이블명
+@Table(name = "wigs", // 매핑될 테이블명
+        indexes = {
+                @Index(name = "idx_wigs_user_updated", columnList = "user_id, updated_at"), // 동기화 범위 조회
+                @Index(name = "idx_wigs_deleted_at", columnList = "deleted_at") // 삭제 대기 WIG 조회 (DeletionPurger)
+        })
 @Getter // jpa는 getter를 이용한 프록시 접근도 많음
 @Setter // 프로토타입때 사용하다 나중에 리팩토링
 @NoArgsConstructor // JPA가 엔티티를 프록시로 생성할 때, 파라미터 없는 기본 생성자가 필요
 @AllArgsConstructor // 필수는 아님. 테스트시 사용
 @Builder // 안정적이고 가독성 높은 객체 생성 방식 제공
+@Cacheable // 2차 캐시 대상 (거의 바뀌지 않는 참조 데이터)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.WIG_REGION)
+@SQLRestriction("deleted_at IS NULL") // 삭제 요청된 WIG는 모든 JPA 조회에서 제외 (실제 삭제는 DeletionPurger가 나중에)
 public class Wig {
 
     @Id // 이 필드가 PK
@@ -111,12 +123,20 @@ public class Wig {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 삭제 요청 시각 (null = 사용 중)
+     * 값이 있으면 조회에서 숨겨지고, 하위 데이터와 함께 백그라운드에서 삭제됨
+     */
+    private LocalDateTime deletedAt;
+
     /**
      * 편의 메서드: User 설정
+     * 사용자의 WIG 목록이 로드된 경우에만 목록에도 추가
      */
     public void setUser(User user) {
         this.user = user;
-        if (user != null && !user.getWigs().contains(this)) {
+        if (user != null && Hibernate.isInitialized(user) && Hibernate.isInitialized(user.getWigs())
+                && !user.getWigs().contains(this)) {
             user.getWigs().add(this);
         }
     }
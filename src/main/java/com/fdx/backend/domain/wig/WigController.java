@@ -15,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -29,6 +30,8 @@ import java.util.Map;
  * POST   /api/wigs           - WIG 생성 (최대 2개)
  * PUT    /api/wigs/{id}      - WIG 수정
  * DELETE /api/wigs/{id}      - WIG 삭제
+ *
+ * GET /api/wigs는 ETag 조건부 요청 지원 (WIG + Lead Measure + Milestone 버전, 같으면 304)
  */
 @RestController // @RestController = @Controller + @ResponseBody
 @RequestMapping("/api/wigs") // @RequestMapping: 모든 메서드의 기본 경로를 /api/wigs로 설정
@@ -49,8 +52,11 @@ public class WigController {
             content = @Content(schema = @Schema(implementation = WigResponse.class))
     )
     @GetMapping
-    public ResponseEntity<List<WigResponse>> getAllWigs() {
+    public ResponseEntity<List<WigResponse>> getAllWigs(WebRequest webRequest) {
         log.info("GET /api/wigs - 모든 WIG 조회 요청");
+        if (webRequest.checkNotModified(wigService.getWigsVersion().etag())) {
+            return null; // 304 Not Modified (엔티티 조회/JSON 직렬화 생략)
+        }
         List<WigResponse> wigs = wigService.getAllWigs();
         return ResponseEntity.ok(wigs);
     }
@@ -0,0 +1,127 @@
+package com.fdx.backend.domain.wig;
+
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
+import com.fdx.backend.domain.event.WigDataChangedEvent.EntityType;
+import com.fdx.backend.security.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * WIG 소유자 메모리 인덱스 (wigId → userId)
+ *
+ * - 처음 보는 WIG만 소유자 ID를 한 번 조회해서 채움 (lazy), 이후 권한 체크는 SQL 없음
+ * - WIG 생성 시 커밋 후 등록, 삭제는 WIG 삭제 이벤트를 커밋 후 받아서 제거
+ * - WIG 소유자는 바뀌지 않으므로 다른 인스턴스에서 삭제된 WIG가 남아 있어도
+ *   권한 판단은 틀리지 않음 (이후 조회에서 "찾을 수 없음" 처리)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WigOwnershipIndex {
+
+    private final WigRepository wigRepository;
+    private final CurrentUser currentUser;
+
+    private final LongLongHashMap owners = new LongLongHashMap();
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * 현재 사용자가 해당 WIG의 소유자인지 확인
+     *
+     * @throws IllegalArgumentException WIG가 없거나 소유자가 아닌 경우
+     */
+    public void checkAccess(Long wigId) {
+        if (wigId == null) {
+            throw new IllegalArgumentException("WIG ID는 필수입니다");
+        }
+        if (ownerOf(wigId) != currentUser.getId()) {
+            throw new IllegalArgumentException("접근 권한이 없습니다");
+        }
+    }
+
+    /**
+     * WIG 소유자 ID
+     *
+     * @throws IllegalArgumentException WIG가 없는 경우
+     */
+    public long ownerOf(Long wigId) {
+        long owner = get(wigId);
+        if (owner != LongLongHashMap.NO_VALUE) {
+            return owner;
+        }
+
+        Long userId = wigRepository.findUserIdById(wigId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId));
+        put(wigId, userId);
+        return userId;
+    }
+
+    /**
+     * 생성된 WIG 등록 (트랜잭션 안이면 커밋 후)
+     */
+    public void register(Long wigId, Long userId) {
+        afterCommit(() -> put(wigId, userId));
+    }
+
+    /**
+     * WIG 삭제 이벤트 수신 (커밋 후 호출되므로 바로 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWigDataChanged(WigDataChangedEvent event) {
+        if (event.entityType() == EntityType.WIG && event.changeType() == ChangeType.DELETED) {
+            evict(event.wigId());
+        }
+    }
+
+    private long get(long wigId) {
+        long stamp = lock.tryOptimisticRead();
+        long owner = owners.get(wigId);
+        if (lock.validate(stamp)) {
+            return owner;
+        }
+        stamp = lock.readLock();
+        try {
+            return owners.get(wigId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void put(long wigId, long userId) {
+        long stamp = lock.writeLock();
+        try {
+            owners.put(wigId, userId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void evict(long wigId) {
+        long stamp = lock.writeLock();
+        try {
+            owners.remove(wigId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.fdx.backend.domain.wig;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * /api/wigs/{wigId}/... 요청의 WIG 소유자 확인
+ *
+ * 컨트롤러 실행 전에 경로의 wigId로 WigOwnershipIndex를 확인 (SQL 없음)
+ * 실패 시 던진 예외는 해당 컨트롤러의 @ExceptionHandler가 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class WigOwnershipInterceptor implements HandlerInterceptor {
+
+    private static final String WIG_ID_VARIABLE = "wigId";
+
+    private final WigOwnershipIndex wigOwnershipIndex;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true; // 비동기 응답(스트리밍) 재디스패치는 최초 요청에서 이미 확인함
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String wigId = variables != null ? variables.get(WIG_ID_VARIABLE) : null;
+        if (wigId == null) {
+            return true;
+        }
+
+        try {
+            wigOwnershipIndex.checkAccess(Long.valueOf(wigId));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 WIG ID입니다: " + wigId);
+        }
+        return true;
+    }
+}
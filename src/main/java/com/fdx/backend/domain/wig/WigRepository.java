@@ -1,13 +1,22 @@
 package com.fdx.backend.domain.wig;
 
 import com.fdx.backend.domain.MeasureType;
+import com.fdx.backend.domain.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * WIG Repository
+ *
+ * 삭제 표시된 WIG는 @SQLRestriction으로 모든 JPQL / 파생 쿼리에서 빠지므로,
+ * 정리(purge)용 조회만 네이티브 쿼리로 작성
  */
 @Repository
 public interface WigRepository extends JpaRepository<Wig, Long> {
@@ -17,6 +26,24 @@ public interface WigRepository extends JpaRepository<Wig, Long> {
      */
     List<Wig> findByUserId(Long userId);
 
+    /**
+     * WIG 소유자 ID만 조회 (권한 인덱스 채우기용)
+     */
+    @Query("SELECT w.user.id FROM Wig w WHERE w.id = :wigId")
+    Optional<Long> findUserIdById(@Param("wigId") Long wigId);
+
+    /**
+     * 특정 사용자의 WIG 버전 (조건부 GET용, 개수 + 최근 수정 시각)
+     */
+    @Query("SELECT new com.fdx.backend.domain.ResourceVersion(COUNT(w), MAX(w.updatedAt)) "
+            + "FROM Wig w WHERE w.user.id = :userId")
+    ResourceVersion findVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 since 이후 생성/수정된 WIG (델타 동기화용, user_id + updated_at 인덱스)
+     */
+    List<Wig> findByUserIdAndUpdatedAtAfter(Long userId, LocalDateTime since);
+
     /**
      * 특정 사용자의 WIG 개수 조회
      */
@@ -35,4 +62,43 @@ public interface WigRepository extends JpaRepository<Wig, Long> {
     // 기존 메서드 (하위 호환용)
     List<Wig> findByMeasureType(MeasureType measureType);
     List<Wig> findByTitleContainingIgnoreCase(String keyword);
-}
\ No newline at end of file
+
+    /**
+     * 특정 사용자의 WIG id 목록 (계정 삭제용)
+     */
+    @Query("SELECT w.id FROM Wig w WHERE w.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * WIG 삭제 표시 (하위 데이터는 DeletionPurger가 나중에 삭제)
+     */
+    @Modifying
+    @Query("UPDATE Wig w SET w.deletedAt = :now WHERE w.id = :id")
+    int markDeleted(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 사용자의 모든 WIG 삭제 표시 (계정 삭제용)
+     */
+    @Modifying
+    @Query("UPDATE Wig w SET w.deletedAt = :now WHERE w.user.id = :userId")
+    int markDeletedByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 삭제 대기 중인 WIG id (먼저 삭제 요청된 순서, deleted_at 인덱스)
+     */
+    @Query(value = "SELECT id FROM wigs WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    /**
+     * 삭제 대기 중인 WIG 수 (정리 진행률 메트릭용)
+     */
+    @Query(value = "SELECT COUNT(*) FROM wigs WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    long countDeleted();
+
+    /**
+     * 특정 사용자의 WIG id 전체 (삭제 표시된 WIG 포함, 탈퇴 계정 정리용)
+     */
+    @Query(value = "SELECT id FROM wigs WHERE user_id = :userId", nativeQuery = true)
+    List<Long> findAllIdsByUserId(@Param("userId") Long userId);
+}
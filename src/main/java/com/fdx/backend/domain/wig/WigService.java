@@ -1,15 +1,22 @@
 package com.fdx.backend.domain.wig;
 
 import com.fdx.backend.domain.MeasureType;
-import com.fdx.backend.domain.user.AuthService;
-import com.fdx.backend.domain.user.User;
+import com.fdx.backend.domain.ResourceVersion;
+import com.fdx.backend.domain.event.WigDataChangedEvent;
+import com.fdx.backend.domain.event.WigDataChangedEvent.ChangeType;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.milestone.MilestoneRepository;
+import com.fdx.backend.domain.streak.StreakService;
 import com.fdx.backend.dto.WigRequest;
 import com.fdx.backend.dto.WigResponse;
+import com.fdx.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,7 +33,12 @@ import java.util.stream.Collectors;
 public class WigService {
 
     private final WigRepository wigRepository;
-    private final AuthService authService;
+    private final LeadMeasureRepository leadMeasureRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final CurrentUser currentUser;
+    private final WigOwnershipIndex wigOwnershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StreakService streakService;
 
     // 4DX 원칙: WIG는 최대 2개까지
     private static final int MAX_WIG_COUNT = 2;
@@ -35,7 +47,6 @@ public class WigService {
      * 현재 사용자의 모든 WIG 조회
      */
     public List<WigResponse> getAllWigs() {
-        User currentUser = authService.getCurrentUser();
         log.info("사용자 {}의 모든 WIG 조회", currentUser.getEmail());
 
         return wigRepository.findByUserId(currentUser.getId()).stream()
@@ -43,11 +54,21 @@ public class WigService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 현재 사용자의 WIG 목록 버전 (조건부 GET용)
+     * WIG 응답에 Lead Measures, Milestones가 포함되므로 세 테이블을 합쳐서 계산
+     */
+    public ResourceVersion getWigsVersion() {
+        Long userId = currentUser.getId();
+        return wigRepository.findVersionByUserId(userId)
+                .and(leadMeasureRepository.findVersionByUserId(userId))
+                .and(milestoneRepository.findVersionByUserId(userId));
+    }
+
     /**
      * 현재 사용자의 WIG 개수 확인
      */
     public long countWigs() {
-        User currentUser = authService.getCurrentUser();
         return wigRepository.countByUserId(currentUser.getId());
     }
 
@@ -57,7 +78,6 @@ public class WigService {
      */
     @Transactional
     public WigResponse createWig(WigRequest request) {
-        User currentUser = authService.getCurrentUser();
         log.info("사용자 {}의 WIG 생성 시도: title={}", currentUser.getEmail(), request.getTitle());
 
         // WIG 개수 제한 검증
@@ -81,10 +101,12 @@ public class WigService {
                 .byWhen(request.getByWhen())
                 .measureType(request.getMeasureType())
                 .unit(request.getUnit())
-                .user(currentUser)
+                .user(currentUser.getReference())
                 .build();
 
         Wig savedWig = wigRepository.save(wig);
+        wigOwnershipIndex.register(savedWig.getId(), currentUser.getId());
+        eventPublisher.publishEvent(WigDataChangedEvent.wig(savedWig.getId(), ChangeType.CREATED));
         log.info("WIG 생성 완료: id={}, 현재 WIG 개수: {}/{}",
                 savedWig.getId(), currentCount + 1, MAX_WIG_COUNT);
 
@@ -96,17 +118,16 @@ public class WigService {
      */
     @Transactional
     public WigResponse updateWig(Long id, WigRequest request) {
-        User currentUser = authService.getCurrentUser();
         log.info("WIG 수정: id={}", id);
 
-        Wig wig = wigRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + id));
-
         // 본인의 WIG인지 확인
-        if (!wig.getUser().getId().equals(currentUser.getId())) {
+        if (wigOwnershipIndex.ownerOf(id) != currentUser.getId()) {
             throw new IllegalArgumentException("수정 권한이 없습니다");
         }
 
+        Wig wig = wigRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + id));
+
         // NUMERIC 타입이면 unit 검증
         if (request.getMeasureType() == MeasureType.NUMERIC &&
                 (request.getUnit() == null || request.getUnit().isBlank())) {
@@ -120,6 +141,7 @@ public class WigService {
         wig.setByWhen(request.getByWhen());
         wig.setMeasureType(request.getMeasureType());
         wig.setUnit(request.getUnit());
+        eventPublisher.publishEvent(WigDataChangedEvent.wig(id, ChangeType.UPDATED));
 
         log.info("WIG 수정 완료: id={}", id);
 
@@ -128,38 +150,32 @@ public class WigService {
 
     /**
      * WIG 삭제
+     * 삭제 표시만 하고 바로 응답 (표시된 WIG는 모든 조회에서 빠짐)
+     * 하위 데이터는 DeletionPurger가 저부하 시간대에 나눠서 삭제
      */
     @Transactional
     public void deleteWig(Long id) {
-        User currentUser = authService.getCurrentUser();
         log.info("WIG 삭제: id={}", id);
 
-        Wig wig = wigRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + id));
-
-        // 본인의 WIG인지 확인
-        if (!wig.getUser().getId().equals(currentUser.getId())) {
+        // 본인의 WIG인지 확인 (없는 WIG면 ownerOf가 예외)
+        if (wigOwnershipIndex.ownerOf(id) != currentUser.getId()) {
             throw new IllegalArgumentException("삭제 권한이 없습니다");
         }
 
-        wigRepository.deleteById(id);
-        log.info("WIG 삭제 완료: id={}", id);
+        wigRepository.markDeleted(id, LocalDateTime.now());
+        streakService.invalidate(id);
+        // 삭제 기록(tombstone) + 커밋 후 소유자 인덱스에서 제거
+        eventPublisher.publishEvent(WigDataChangedEvent.wig(id, ChangeType.DELETED));
+        log.info("WIG 삭제 표시 완료: id={}", id);
     }
 
     /**
      * 특정 WIG 조회 (권한 체크 포함)
      */
     public Wig getWigWithAuthCheck(Long wigId) {
-        User currentUser = authService.getCurrentUser();
+        wigOwnershipIndex.checkAccess(wigId); // 본인의 WIG인지 확인 (SQL 없음)
 
-        Wig wig = wigRepository.findById(wigId)
+        return wigRepository.findById(wigId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 WIG를 찾을 수 없습니다: " + wigId));
-
-        // 본인의 WIG인지 확인
-        if (!wig.getUser().getId().equals(currentUser.getId())) {
-            throw new IllegalArgumentException("접근 권한이 없습니다");
-        }
-
-        return wig;
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.fdx.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 달성 캘린더 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AchievementCalendarResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /** 모든 lead measure를 동시에 달성한 일수 */
+    private int overallAchievedDays;
+
+    /** 모든 lead measure를 동시에 달성한 날짜 */
+    private List<LocalDate> overallAchievedDates;
+
+    /** lead measure별 달성 현황 */
+    private List<LeadMeasureAchievement> leadMeasureAchievements;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class LeadMeasureAchievement {
+        private Long leadMeasureId;
+        private String name;
+        private int achievedDays;
+        private List<LocalDate> achievedDates;
+    }
+}
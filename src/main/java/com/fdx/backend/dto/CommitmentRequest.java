@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 /**
  * Commitment 생성/수정 요청 DTO
  */
@@ -22,6 +24,9 @@ public class CommitmentRequest {
     @NotBlank(message = "주차는 필수입니다")
     private String week;
 
+    // 해당 주에 속한 아무 날짜 (선택, 주차 순 정렬/기간 조회용 ISO 주차 계산)
+    private LocalDate date;
+
     private Boolean completed;
 
     @NotNull(message = "WIG ID는 필수입니다")
@@ -20,6 +20,7 @@ public class CommitmentResponse {
     private Long id;
     private String text;
     private String week;
+    private Integer weekKey; // ISO 주차 키 (예: 202502, 모르면 null)
     private Boolean completed;
     private Long wigId;
     private LocalDateTime createdAt;
@@ -33,6 +34,7 @@ public class CommitmentResponse {
                 .id(commitment.getId())
                 .text(commitment.getText())
                 .week(commitment.getWeek())
+                .weekKey(commitment.getWeekKey())
                 .completed(commitment.getCompleted())
                 .wigId(commitment.getWig().getId())
                 .createdAt(commitment.getCreatedAt())
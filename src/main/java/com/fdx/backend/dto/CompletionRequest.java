@@ -0,0 +1,20 @@
+package com.fdx.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 완료 상태 지정 요청 DTO (Commitment / Milestone 공통)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompletionRequest {
+
+    @NotNull(message = "완료 여부는 필수입니다")
+    private Boolean completed;
+}
@@ -0,0 +1,45 @@
+package com.fdx.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DailyData 일괄 생성 요청 DTO
+ * 행별 검증 결과를 응답으로 돌려주므로 개별 행에는 Bean Validation을 걸지 않음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyDataBulkRequest {
+
+    @NotEmpty(message = "일간 데이터는 1건 이상이어야 합니다")
+    @Builder.Default
+    private List<Row> rows = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Row {
+        private LocalDate date;
+        private String week;
+        private String dayOfWeek;
+
+        /**
+         * 리드매셔별 실적 값
+         * key: leadMeasureId, value: 실적 값
+         */
+        @Builder.Default
+        private Map<Long, Double> leadValues = new HashMap<>();
+    }
+}
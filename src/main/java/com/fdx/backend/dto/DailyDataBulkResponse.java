@@ -0,0 +1,49 @@
+package com.fdx.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DailyData 일괄 생성 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyDataBulkResponse {
+
+    private int total;
+    private int created;
+    private int duplicated;
+    private int invalid;
+    private int failed;
+
+    /** 요청 행 순서대로의 처리 결과 */
+    @Builder.Default
+    private List<RowResult> results = new ArrayList<>();
+
+    public enum Status {
+        CREATED,    // 저장됨
+        DUPLICATE,  // 같은 날짜 데이터가 이미 있어 건너뜀
+        INVALID,    // 검증 실패 (날짜/주차 누락, 요청 내 중복 날짜, 없는 Lead Measure)
+        FAILED      // 저장 중 오류 (해당 청크 롤백)
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowResult {
+        private int index;
+        private LocalDate date;
+        private Status status;
+        private Long dailyDataId;
+        private String message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fdx.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일간 데이터 페이지 응답 DTO (커서 기반)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyDataPageResponse {
+
+    /** 날짜 오름차순 일간 데이터 */
+    @Builder.Default
+    private List<DailyDataResponse> content = new ArrayList<>();
+
+    /** 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null) */
+    private String nextCursor;
+
+    private boolean hasNext;
+}
@@ -1,6 +1,7 @@
 package com.fdx.backend.dto;
 
 import com.fdx.backend.domain.dailydata.DailyData;
+import com.fdx.backend.domain.dailydata.DailyDataRow;
 import com.fdx.backend.domain.dailydata.DailyLeadData;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,7 +10,9 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -60,4 +63,31 @@ public class DailyDataResponse {
                 .updatedAt(dailyData.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 프로젝션 행 목록을 DTO 목록으로 변환
+     * 같은 일간 데이터의 행은 연속해서 온다고 가정 (id 또는 날짜 순 정렬), 한 번 순회로 묶음
+     */
+    public static List<DailyDataResponse> fromRows(List<DailyDataRow> rows) {
+        List<DailyDataResponse> responses = new ArrayList<>();
+        DailyDataResponse current = null;
+        for (DailyDataRow row : rows) {
+            if (current == null || !current.getId().equals(row.id())) {
+                current = DailyDataResponse.builder()
+                        .id(row.id())
+                        .date(row.date())
+                        .week(row.week())
+                        .dayOfWeek(row.dayOfWeek())
+                        .wigId(row.wigId())
+                        .createdAt(row.createdAt())
+                        .updatedAt(row.updatedAt())
+                        .build();
+                responses.add(current);
+            }
+            if (row.leadMeasureId() != null) {
+                current.getLeadValues().put(row.leadMeasureId(), row.value());
+            }
+        }
+        return responses;
+    }
 }
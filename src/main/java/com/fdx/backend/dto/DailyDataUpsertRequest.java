@@ -0,0 +1,32 @@
+package com.fdx.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DailyData upsert 요청 DTO (wigId, date는 경로로 전달)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyDataUpsertRequest {
+
+    @NotBlank(message = "주차는 필수입니다")
+    private String week;
+
+    private String dayOfWeek;
+
+    /**
+     * 리드매셔별 실적 값 (요청에 없는 리드매셔 실적은 삭제됨)
+     * key: leadMeasureId, value: 실적 값
+     */
+    @Builder.Default
+    private Map<Long, Double> leadValues = new HashMap<>();
+}
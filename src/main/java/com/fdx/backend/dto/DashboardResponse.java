@@ -0,0 +1,60 @@
+package com.fdx.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 화면 대시보드 응답 DTO
+ * 현재 사용자의 WIG별로 홈 화면에 필요한 데이터를 한 번에 담음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponse {
+
+    /** 조회 주차 (예: "W5", 없으면 null) */
+    private String week;
+
+    /** 이번 주 시작일 (월요일) */
+    private LocalDate weekStart;
+
+    /** 이번 주 종료일 (일요일) */
+    private LocalDate weekEnd;
+
+    private List<WigDashboard> wigs;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WigDashboard {
+
+        /** WIG (lead measures, milestones 포함) */
+        private WigResponse wig;
+
+        /** 이번 주 (weekStart ~ weekEnd) 일간 데이터 */
+        private List<DailyDataResponse> dailyData;
+
+        /** 해당 주차 주간 데이터 (없으면 null) */
+        private WeeklyDataResponse weeklyData;
+
+        /** 해당 주차 Commitments */
+        private List<CommitmentResponse> commitments;
+
+        /** 해당 주차 Commitment 이행률 (GET /commitments/week/{week}/rate 와 같은 형식) */
+        private Map<String, Object> commitmentRate;
+
+        /** Milestone 진행률 (STATE 타입만, GET /milestones/progress 와 같은 형식) */
+        private Map<String, Object> milestoneProgress;
+
+        /** 연속달성 (streak 프로젝션을 준비 중이면 null → GET /api/wigs/{wigId}/streak로 조회) */
+        private StreakResponse streak;
+    }
+}
@@ -0,0 +1,24 @@
+package com.fdx.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 특정 날짜의 리드매셔 실적 하나 수정 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeadValuePatchRequest {
+
+    /** 실적 값 */
+    private Double value;
+
+    /** 해당 날짜의 일간 데이터가 아직 없을 때 생성에 사용 (있으면 무시) */
+    private String week;
+
+    private String dayOfWeek;
+}
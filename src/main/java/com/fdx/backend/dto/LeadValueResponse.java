@@ -0,0 +1,28 @@
+package com.fdx.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 특정 날짜의 리드매셔 실적 하나 저장 응답 DTO
+ * 저장한 값만 반환 (해당 날짜의 전체 실적은 GET으로 조회)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeadValueResponse {
+
+    private Long wigId;
+
+    private LocalDate date;
+
+    private Long leadMeasureId;
+
+    /** 저장된 실적 값 */
+    private Double value;
+}
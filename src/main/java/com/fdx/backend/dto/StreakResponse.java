@@ -19,6 +19,9 @@ public class StreakResponse {
     /** 모든 lead measure를 동시에 달성한 연속 일수 */
     private int overallStreak;
 
+    /** 모든 lead measure를 동시에 달성한 최장 연속 일수 */
+    private int overallLongestStreak;
+
     /** lead measure별 개별 streak */
     private List<LeadMeasureStreak> leadMeasureStreaks;
 
@@ -30,6 +33,7 @@ public class StreakResponse {
         private Long leadMeasureId;
         private String name;
         private int currentStreak;
+        private int longestStreak;
         private String direction; // "MAXIMIZE" or "MINIMIZE"
     }
 }
@@ -0,0 +1,61 @@
+package com.fdx.backend.dto;
+
+import com.fdx.backend.domain.event.WigDataChangedEvent.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 델타 동기화 응답 DTO
+ * since 이후 생성/수정된 행과 삭제 기록(tombstone), 다음 요청에 쓸 watermark를 담음
+ *
+ * 클라이언트는 id 기준으로 upsert 하면 됨 (watermark가 조금 겹치므로 같은 행이 다시 올 수 있음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncResponse {
+
+    /** 다음 요청의 since로 보낼 값 */
+    private LocalDateTime watermark;
+
+    /** true면 전체 동기화 (since가 없거나 tombstone 보관 기간보다 오래됨) → 로컬 데이터를 이 응답으로 교체 */
+    private boolean full;
+
+    /** WIG (leadMeasures, milestones는 비어 있음 → 아래 목록으로 전달) */
+    private List<WigResponse> wigs;
+
+    private List<LeadMeasureResponse> leadMeasures;
+
+    private List<DailyDataResponse> dailyData;
+
+    private List<WeeklyDataResponse> weeklyData;
+
+    private List<CommitmentResponse> commitments;
+
+    private List<MilestoneResponse> milestones;
+
+    /** since 이후 삭제된 행 (전체 동기화면 비어 있음) */
+    private List<Tombstone> deleted;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Tombstone {
+
+        /** WIG면 하위 데이터 전체, LEAD_MEASURE면 일간/주간 데이터의 해당 실적도 함께 삭제된 것 */
+        private EntityType entityType;
+
+        private Long id;
+
+        private Long wigId;
+
+        private LocalDateTime deletedAt;
+    }
+}
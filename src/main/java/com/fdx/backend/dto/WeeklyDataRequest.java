@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,6 +23,9 @@ public class WeeklyDataRequest {
     @NotBlank(message = "주차는 필수입니다")
     private String week;
 
+    // 해당 주에 속한 아무 날짜 (선택, 없으면 같은 주차 라벨의 일간 데이터로 ISO 주차를 정함)
+    private LocalDate date;
+
     // STATE 타입 WIG용
     private Double milestoneProgress;
 
@@ -1,6 +1,7 @@
 package com.fdx.backend.dto;
 
 import com.fdx.backend.domain.weeklydata.WeeklyData;
+import com.fdx.backend.domain.weeklydata.WeeklyDataRow;
 import com.fdx.backend.domain.weeklydata.WeeklyLeadData;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +9,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -23,6 +26,7 @@ public class WeeklyDataResponse {
 
     private Long id;
     private String week;
+    private Integer weekKey; // ISO 주차 키 (예: 202502, 모르면 null)
     private Double milestoneProgress;
     private Double actual;
     private Double target;
@@ -52,6 +56,7 @@ public class WeeklyDataResponse {
         return WeeklyDataResponse.builder()
                 .id(weeklyData.getId())
                 .week(weeklyData.getWeek())
+                .weekKey(weeklyData.getWeekKey())
                 .milestoneProgress(weeklyData.getMilestoneProgress())
                 .actual(weeklyData.getActual())
                 .target(weeklyData.getTarget())
@@ -61,4 +66,33 @@ public class WeeklyDataResponse {
                 .updatedAt(weeklyData.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 프로젝션 행 목록을 DTO 목록으로 변환
+     * 같은 주간 데이터의 행은 연속해서 온다고 가정 (id 또는 주차 순 정렬), 한 번 순회로 묶음
+     */
+    public static List<WeeklyDataResponse> fromRows(List<WeeklyDataRow> rows) {
+        List<WeeklyDataResponse> responses = new ArrayList<>();
+        WeeklyDataResponse current = null;
+        for (WeeklyDataRow row : rows) {
+            if (current == null || !current.getId().equals(row.id())) {
+                current = WeeklyDataResponse.builder()
+                        .id(row.id())
+                        .week(row.week())
+                        .weekKey(row.weekKey())
+                        .milestoneProgress(row.milestoneProgress())
+                        .actual(row.actual())
+                        .target(row.target())
+                        .wigId(row.wigId())
+                        .createdAt(row.createdAt())
+                        .updatedAt(row.updatedAt())
+                        .build();
+                responses.add(current);
+            }
+            if (row.leadMeasureId() != null) {
+                current.getLeadValues().put(row.leadMeasureId(), row.value());
+            }
+        }
+        return responses;
+    }
 }
@@ -61,4 +61,22 @@ public class WigResponse {
                 .updatedAt(wig.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 하위 목록 없이 WIG 필드만 변환 (델타 동기화용, Lead Measures/Milestones는 따로 전달)
+     * 컬렉션을 초기화하지 않으므로 추가 쿼리 없음
+     */
+    public static WigResponse summary(Wig wig) {
+        return WigResponse.builder()
+                .id(wig.getId())
+                .title(wig.getTitle())
+                .fromX(wig.getFromX())
+                .toY(wig.getToY())
+                .byWhen(wig.getByWhen())
+                .measureType(wig.getMeasureType())
+                .unit(wig.getUnit())
+                .createdAt(wig.getCreatedAt())
+                .updatedAt(wig.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.fdx.backend.security;
+
+import com.fdx.backend.domain.user.User;
+import com.fdx.backend.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 현재 요청의 로그인 사용자 (요청 스코프)
+ *
+ * - 사용자 ID/이메일은 JWT 필터가 만든 JwtPrincipal에서 꺼내므로 users 테이블 조회 없음
+ * - User 엔티티가 필요할 때만 getUser()로 한 번 조회하고 요청 동안 재사용
+ * - 연관관계 설정만 필요하면 getReference()로 프록시만 사용 (SELECT 없음)
+ * - 탈퇴한 사용자의 토큰은 JwtTokenProvider가 인증 단계에서 거부하므로 여기서는 deleted_at을 다시 확인하지 않음
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private final UserRepository userRepository;
+
+    private JwtPrincipal principal;
+    private User user;
+
+    /**
+     * 현재 사용자 ID (DB 조회 없음)
+     */
+    public Long getId() {
+        return principal().userId();
+    }
+
+    /**
+     * 현재 사용자 이메일 (DB 조회 없음)
+     */
+    public String getEmail() {
+        return principal().email();
+    }
+
+    /**
+     * 현재 사용자 엔티티 (요청당 최초 1번만 조회)
+     */
+    public User getUser() {
+        if (user == null) {
+            Long userId = getId();
+            user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        }
+        return user;
+    }
+
+    /**
+     * 연관관계 설정용 User 프록시 (트랜잭션 안에서 사용, DB 조회 없음)
+     */
+    public User getReference() {
+        return userRepository.getReferenceById(getId());
+    }
+
+    private JwtPrincipal principal() {
+        if (principal == null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !authentication.isAuthenticated()
+                    || !(authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal)) {
+                throw new IllegalStateException("인증 정보가 없습니다");
+            }
+            principal = jwtPrincipal;
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,17 @@
+package com.fdx.backend.security;
+
+import java.security.Principal;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자 정보
+ * 요청마다 DB를 조회하지 않고 토큰의 userId/email/role만으로 인증 객체를 구성
+ *
+ * getName()은 이메일을 반환하므로 authentication.getName()은 기존과 동일하게 이메일
+ */
+public record JwtPrincipal(Long userId, String email, String role) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,24 +1,52 @@
 package com.fdx.backend.security;
 
+import com.fdx.backend.domain.user.User;
+import com.fdx.backend.domain.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
+ *
+ * 토큰에 userId(uid), role 클레임을 담아 사용자 행을 읽지 않고 인증 객체를 만든다
+ * 파서는 키가 고정이므로 한 번만 만들어 재사용
+ *
+ * 탈퇴 확인 비용 (트레이드오프): 캐시 미적중 때마다 users PK 존재 확인 쿼리 1번 (existsById)
+ * - 캐시 사용 시: 토큰당 jwt.cache.revalidate-after마다 1번
+ * - 캐시 미사용 (max-size: 0) 시: 요청마다 1번
+ *
+ * 검증된 토큰은 SHA-256 다이제스트 → Claims로 캐시 (같은 토큰이 세션 내내 반복 전송되므로)
+ * - 크기 제한 (jwt.cache.max-size, 0이면 캐시 안 함)
+ * - 캐시에 넣을 때 사용자가 탈퇴하지 않았는지 DB로 확인 (탈퇴 후에는 토큰이 만료 전이어도 거부)
+ * - 항목은 토큰의 exp와 jwt.cache.revalidate-after 중 이른 시점에 만료 → 다른 서버에서 탈퇴해도 그 안에 다시 확인
+ * - 이 서버에서 탈퇴하면 revokeUser()로 캐시 항목을 바로 지우고 토큰 유효 시간 동안 거부 목록에 둠
+ * - 적중/실패는 cache.gets{cache=jwt.verified} 메트릭으로 노출
  */
 @Component // 스프링 빈으로 등록
 @Slf4j // 로거
@@ -32,13 +60,31 @@ public class JwtTokenProvider {
 
     private SecretKey key; // JWT 서명(Signature)에 실제로 쓰이는 키, 문자열(secretKey)을 그대로 쓰지 않고, 👉 Base64 → byte[] → HMAC Key 로 변환해서 사용
 
-    // JWT 안에는 이메일(식별자) 만 있음
-    // 하지만 Spring Security는 UserDetails 객체를 필요로 함
-    // 그래서 토큰 → 이메일 → DB 조회 → UserDetails 생성 흐름이 필요
-    private final UserDetailsService userDetailsService;
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize; // 검증된 토큰 캐시 최대 개수
 
-    public JwtTokenProvider(UserDetailsService userDetailsService) { // 위에 key필드 주입되는지 햇깔리니까 @Required안씀
-        this.userDetailsService = userDetailsService;
+    @Value("${jwt.cache.revalidate-after:5m}")
+    private Duration revalidateAfter; // 캐시된 토큰의 탈퇴 여부를 다시 확인하는 주기
+
+    private JwtParser parser; // 서명 검증용 파서 (스레드 안전, 재사용)
+
+    private Cache<ByteBuffer, Claims> verifiedTokens; // 토큰 다이제스트 → 검증된 Claims (null이면 캐시 안 함)
+
+    private Cache<Long, Boolean> revokedUsers; // 이 서버에서 탈퇴한 사용자 id (토큰 유효 시간 동안 보관)
+
+    private MessageDigest sha256; // clone()해서 사용 (MessageDigest는 스레드 안전하지 않음)
+
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+
+    // uid / role 클레임이 없는 이전 버전 토큰용 (만료 전까지만 이메일로 DB 조회)
+    private final UserRepository userRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    public JwtTokenProvider(UserRepository userRepository, MeterRegistry meterRegistry) { // 위에 key필드 주입되는지 햇깔리니까 @Required안씀
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
     }
 
     @PostConstruct // 빈이 생성되고 의존성 주입이 끝난 후 딱 1번 실행되는 메서드
@@ -46,12 +92,32 @@ public class JwtTokenProvider {
         // Base64로 인코딩된 시크릿 키를 디코딩하여 SecretKey 생성
         byte[] keyBytes = Base64.getDecoder().decode(secretKey); // Base64 문자열 → **원래 바이트 배열(byte[])**로 복원
         this.key = Keys.hmacShaKeyFor(keyBytes); // keyBytes를 가지고 HMAC-SHA용 SecretKey 객체를 만들어줌
+        this.parser = Jwts.parser().verifyWith(key).build();
+
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+
+        this.revokedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(validityInMilliseconds, TimeUnit.MILLISECONDS)
+                .build();
+
+        if (cacheMaxSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfter(new TokenExpiry(revalidateAfter))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
+        }
     }
 
     /**
      * JWT 토큰 생성
      */
-    public String createToken(String email, String role) {
+    public String createToken(Long userId, String email, String role) {
         Claims claims = Jwts.claims().subject(email).build();
 
         Date now = new Date();
@@ -59,7 +125,8 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .claims(claims)
-                .claim("role", role)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLE_CLAIM, role)
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(key)
@@ -71,36 +138,141 @@ public class JwtTokenProvider {
      * 토큰에서 이메일 추출
      */
     public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parser.parseSignedClaims(token).getPayload().getSubject();
     }
 
     /**
      * 토큰으로 Authentication 객체 생성
+     *
+     * 캐시 적중: DB 조회 없음
+     * 캐시 미적중: 파싱/서명 검증 1번 + 탈퇴 확인 쿼리 1번 (토큰당 revalidate-after마다, 캐시를 끄면 요청마다)
+     * uid / role 클레임이 없는 이전 버전 토큰은 이메일 조회가 요청마다 추가됨
+     *
+     * @return 유효하지 않은 토큰이면 null
      */
     public Authentication getAuthentication(String token) { // JWT → Spring Security 인증 객체 변환
-        String email = getEmail(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        String email = claims.getSubject();
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            // 이전 버전 토큰: 이메일로 한 번 조회해서 id와 권한을 함께 채움 (ROLE_null 방지)
+            User user = userRepository.findByEmail(email).orElse(null);
+            if (user == null) {
+                log.warn("토큰의 사용자를 찾을 수 없습니다: {}", email);
+                return null;
+            }
+            userId = user.getId();
+            role = user.getRole().name();
+        }
+        if (revokedUsers.getIfPresent(userId) != null) {
+            return null; // 탈퇴한 사용자의 아직 만료되지 않은 토큰
+        }
+
+        JwtPrincipal principal = new JwtPrincipal(userId, email, role);
+        return new UsernamePasswordAuthenticationToken(principal, "",
+                List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
+
+    /**
+     * 탈퇴한 사용자의 토큰 거부 (탈퇴 커밋 후 호출)
+     * 이 서버의 캐시 항목을 지우고, 캐시를 거치지 않는 경우에도 거부되도록 거부 목록에 추가
+     */
+    public void revokeUser(Long userId) {
+        revokedUsers.put(userId, Boolean.TRUE);
+        if (verifiedTokens != null) {
+            verifiedTokens.asMap().values().removeIf(claims -> userId.equals(claims.get(USER_ID_CLAIM, Long.class)));
+        }
     }
 
     /**
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * 토큰 검증 후 Claims 반환 (캐시에 있으면 파싱/서명 검증/탈퇴 확인 생략)
+     *
+     * @return 유효하지 않거나 탈퇴한 사용자의 토큰이면 null
+     */
+    private Claims parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        if (verifiedTokens == null) {
+            return activeOnly(verify(token));
+        }
+
+        ByteBuffer digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = activeOnly(verify(token));
+            if (claims != null && claims.getExpiration() != null) {
+                verifiedTokens.put(digest, claims);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * 탈퇴한 사용자의 Claims는 null로 (users의 @SQLRestriction 때문에 탈퇴 표시된 행은 존재하지 않는 것으로 보임)
+     * uid가 없는 이전 버전 토큰은 getAuthentication()의 이메일 조회에서 같은 방식으로 걸러짐
+     */
+    private Claims activeOnly(Claims claims) {
+        if (claims == null) {
+            return null;
+        }
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        if (userId != null && !userRepository.existsById(userId)) {
+            log.warn("탈퇴했거나 없는 사용자의 토큰: userId={}", userId);
+            return null;
+        }
+        return claims;
+    }
+
+    private Claims verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             log.error("유효하지 않은 JWT 토큰: {}", e.getMessage());
-            return false;
+            return null;
+        }
+    }
+
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest md = (MessageDigest) sha256.clone();
+            return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 다이제스트를 만들 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 캐시 항목 유효 시간 = 토큰 만료(exp)까지 남은 시간과 재확인 주기 중 짧은 쪽 (조회/갱신으로 연장되지 않음)
+     */
+    private record TokenExpiry(Duration revalidateAfter) implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer digest, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(Math.min(remainingMillis, revalidateAfter.toMillis()), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 
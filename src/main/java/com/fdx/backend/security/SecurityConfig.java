@@ -2,6 +2,7 @@ package com.fdx.backend.security;
 
 import com.fdx.backend.security.oauth.CustomOAuth2UserService;
 import com.fdx.backend.security.oauth.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -55,6 +56,8 @@ public class SecurityConfig {
 
                 // URL별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(내보내기) 완료 후의 ASYNC 디스패치는 이미 인증된 요청의 연장이므로 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",           // 로그인, 회원가입
                                 "/oauth2/**",             // OAuth2 엔드포인트
@@ -44,7 +44,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         log.info("OAuth2 로그인 성공: email={}, provider={}", user.getEmail(), user.getProvider());
 
         // JWT 토큰 생성
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
+        String token = jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getRole().name());
 
         // 프론트엔드로 토큰과 함께 리다이렉트
         UriComponentsBuilder builder = UriComponentsBuilder
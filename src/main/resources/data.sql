@@ -70,43 +70,43 @@ VALUES ('최종 합격', FALSE, 5, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 -- ======================================
 
 -- WIG 1 (백엔드 개발자 취업)의 W1 Commitments
-INSERT INTO commitments (text, week, completed, wig_id, created_at, updated_at)
-VALUES ('백엔드 로드맵 정리', 'W1', TRUE, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO commitments (text, week, week_key, completed, wig_id, created_at, updated_at)
+VALUES ('백엔드 로드맵 정리', 'W1', 202502, TRUE, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO commitments (text, week, completed, wig_id, created_at, updated_at)
-VALUES ('Spring Security 공부', 'W1', TRUE, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO commitments (text, week, week_key, completed, wig_id, created_at, updated_at)
+VALUES ('Spring Security 공부', 'W1', 202502, TRUE, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- WIG 1 (백엔드 개발자 취업)의 W2 Commitments
-INSERT INTO commitments (text, week, completed, wig_id, created_at, updated_at)
-VALUES ('코딩테스트 3문제 풀기', 'W2', FALSE, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO commitments (text, week, week_key, completed, wig_id, created_at, updated_at)
+VALUES ('코딩테스트 3문제 풀기', 'W2', 202503, FALSE, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO commitments (text, week, completed, wig_id, created_at, updated_at)
-VALUES ('JPA 심화 학습', 'W2', FALSE, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO commitments (text, week, week_key, completed, wig_id, created_at, updated_at)
+VALUES ('JPA 심화 학습', 'W2', 202503, FALSE, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- WIG 2 (체중 감량)의 W1 Commitments
-INSERT INTO commitments (text, week, completed, wig_id, created_at, updated_at)
-VALUES ('매일 아침 30분 조깅', 'W1', TRUE, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO commitments (text, week, week_key, completed, wig_id, created_at, updated_at)
+VALUES ('매일 아침 30분 조깅', 'W1', 202502, TRUE, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO commitments (text, week, completed, wig_id, created_at, updated_at)
-VALUES ('야식 끊기', 'W1', FALSE, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO commitments (text, week, week_key, completed, wig_id, created_at, updated_at)
+VALUES ('야식 끊기', 'W1', 202502, FALSE, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- ======================================
 -- Weekly Data (주간 실적) - 정규화
 -- ======================================
 
 -- WIG 1 (백엔드 개발자 취업 - STATE 타입)의 주간 데이터
-INSERT INTO weekly_data (week, milestone_progress, wig_id, created_at, updated_at)
-VALUES ('W1', 20, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO weekly_data (week, week_key, milestone_progress, wig_id, created_at, updated_at)
+VALUES ('W1', 202502, 20, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO weekly_data (week, milestone_progress, wig_id, created_at, updated_at)
-VALUES ('W2', 40, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO weekly_data (week, week_key, milestone_progress, wig_id, created_at, updated_at)
+VALUES ('W2', 202503, 40, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- WIG 2 (체중 감량 - NUMERIC 타입)의 주간 데이터
-INSERT INTO weekly_data (week, actual, target, wig_id, created_at, updated_at)
-VALUES ('W1', 74.5, 74, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO weekly_data (week, week_key, actual, target, wig_id, created_at, updated_at)
+VALUES ('W1', 202502, 74.5, 74, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO weekly_data (week, actual, target, wig_id, created_at, updated_at)
-VALUES ('W2', 73.8, 73, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO weekly_data (week, week_key, actual, target, wig_id, created_at, updated_at)
+VALUES ('W2', 202503, 73.8, 73, 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- ======================================
 -- Weekly Lead Data (주간 리드매셔 실적 - 정규화 테이블)
@@ -135,52 +135,52 @@ INSERT INTO weekly_lead_data (weekly_data_id, lead_measure_id, lead_value) VALUE
 -- ======================================
 
 -- WIG 1의 W1 일간 데이터 (2025-01-06 ~ 2025-01-10, 월~금)
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-06', 'W1', '월', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-06', 'W1', 202502, '월', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-07', 'W1', '화', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-07', 'W1', 202502, '화', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-08', 'W1', '수', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-08', 'W1', 202502, '수', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-09', 'W1', '목', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-09', 'W1', 202502, '목', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-10', 'W1', '금', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-10', 'W1', 202502, '금', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- WIG 2의 W1 일간 데이터 (2025-01-06 ~ 2025-01-10, 월~금)
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-06', 'W1', '월', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-06', 'W1', 202502, '월', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-07', 'W1', '화', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-07', 'W1', 202502, '화', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-08', 'W1', '수', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-08', 'W1', 202502, '수', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-09', 'W1', '목', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-09', 'W1', 202502, '목', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-10', 'W1', '금', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-10', 'W1', 202502, '금', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- WIG 2의 W2 일간 데이터 (2025-01-13 ~ 2025-01-17, 월~금)
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-13', 'W2', '월', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-13', 'W2', 202503, '월', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-14', 'W2', '화', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-14', 'W2', 202503, '화', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-15', 'W2', '수', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-15', 'W2', 202503, '수', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-16', 'W2', '목', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-16', 'W2', 202503, '목', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
-INSERT INTO daily_data (date, week, day_of_week, wig_id, created_at, updated_at)
-VALUES ('2025-01-17', 'W2', '금', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at)
+VALUES ('2025-01-17', 'W2', 202503, '금', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- ======================================
 -- Daily Lead Data (일간 리드매셔 실적 - 정규화 테이블)
@@ -0,0 +1,43 @@
+-- Flyway 도입 전(ddl-auto 시절)에 엔티티로 추가된 스키마 변경을 V1 baseline 위에 적용
+
+-- 일별 streak 프로젝션 (StreakState)
+CREATE TABLE streak_states
+(
+    id bigint generated by default as identity,
+    run_end date,
+    run_start date,
+    lead_measure_id bigint,
+    updated_at timestamp(6) not null,
+    wig_id bigint not null,
+    primary key (id)
+);
+
+ALTER TABLE streak_states ADD CONSTRAINT UKrb3qmt2tj8c5oitwvcwevltui UNIQUE (wig_id, lead_measure_id);
+
+-- 동기화용 삭제 기록 (SyncTombstone)
+CREATE TABLE sync_tombstones
+(
+    id bigint generated by default as identity,
+    deleted_at timestamp(6) not null,
+    entity_id bigint not null,
+    user_id bigint not null,
+    wig_id bigint not null,
+    entity_type enum ('COMMITMENT','DAILY_DATA','LEAD_MEASURE','MILESTONE','WEEKLY_DATA','WIG') not null,
+    primary key (id)
+);
+
+CREATE INDEX idx_sync_tombstones_user_deleted ON sync_tombstones (user_id, deleted_at);
+
+-- 변경분 동기화 조회 (updated_at 이후 변경된 행)
+CREATE INDEX idx_commitments_wig_updated ON commitments (wig_id, updated_at);
+CREATE INDEX idx_daily_data_wig_updated ON daily_data (wig_id, updated_at);
+CREATE INDEX idx_lead_measures_wig_updated ON lead_measures (wig_id, updated_at);
+CREATE INDEX idx_milestones_wig_updated ON milestones (wig_id, updated_at);
+CREATE INDEX idx_weekly_data_wig_updated ON weekly_data (wig_id, updated_at);
+CREATE INDEX idx_wigs_user_updated ON wigs (user_id, updated_at);
+
+-- WIG / 계정 soft delete (삭제 표시 후 DeletionPurger가 정리)
+ALTER TABLE wigs ADD COLUMN deleted_at timestamp(6);
+ALTER TABLE users ADD COLUMN deleted_at timestamp(6);
+CREATE INDEX idx_wigs_deleted_at ON wigs (deleted_at);
+CREATE INDEX idx_users_deleted_at ON users (deleted_at);
@@ -0,0 +1,20 @@
+-- 조회 빈도가 높은 Repository 쿼리용 복합 인덱스
+-- (wig_id, date) / (wig_id, week) 같은 기존 unique 제약으로 처리되는 쿼리는 제외
+
+-- DailyDataRepository.findByWigIdAndWeekOrderByDateAsc, findRowsByWigIdAndWeek (정렬까지 인덱스 순서로)
+CREATE INDEX idx_daily_data_wig_week_date ON daily_data (wig_id, week, date);
+
+-- CommitmentRepository.findByWigIdAndWeek, countByWigIdAndWeek, countByWigIdAndWeekAndCompletedTrue
+-- (completed까지 포함해서 개수 집계는 인덱스만 읽음)
+CREATE INDEX idx_commitments_wig_week_completed ON commitments (wig_id, week, completed);
+
+-- MilestoneRepository.findByWigIdOrderByOrderIndexAsc / countByWigIdAndCompletedTrue
+CREATE INDEX idx_milestones_wig_order ON milestones (wig_id, order_index);
+CREATE INDEX idx_milestones_wig_completed ON milestones (wig_id, completed);
+
+-- Lead Measure 삭제 시 실적 id 조회 (Daily/WeeklyLeadDataRepository.findIdsByLeadMeasureId)
+CREATE INDEX idx_daily_lead_data_lead_measure ON daily_lead_data (lead_measure_id);
+CREATE INDEX idx_weekly_lead_data_lead_measure ON weekly_lead_data (lead_measure_id);
+
+-- 보관 기간이 지난 tombstone 정리 (SyncTombstoneRepository.deleteByDeletedAtBefore)
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones (deleted_at);
@@ -0,0 +1,4 @@
+-- streak 프로젝션에 최장 streak 저장 (조회 때 달성 인덱스를 만들지 않도록)
+-- 기존 프로젝션 행에는 최장 값이 없으므로 지워두고 다음 쓰기/조회 때 재계산
+DELETE FROM streak_states;
+ALTER TABLE streak_states ADD COLUMN longest_streak INT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- Lead Measure soft delete
+-- 삭제 요청 시 먼저 삭제 표시를 커밋해서 조회에서 숨기고, 실적은 그 뒤에 청크 단위로 삭제
+ALTER TABLE lead_measures ADD COLUMN deleted_at timestamp(6);
+CREATE INDEX idx_lead_measures_deleted_at ON lead_measures (deleted_at);
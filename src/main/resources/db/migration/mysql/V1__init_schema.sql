@@ -0,0 +1,133 @@
+-- 초기 스키마: Flyway 도입 전 운영 DB에 ddl-auto: update로 만들어져 있던 스키마 (테이블/제약 이름까지 동일)
+-- 운영 DB는 이 버전을 baseline으로 기록하고 건너뛰므로, 이후 추가된 테이블/컬럼/인덱스는 여기 넣지 말고 다음 버전에 추가
+
+CREATE TABLE commitments
+(
+    id bigint not null auto_increment,
+    completed bit not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    wig_id bigint not null,
+    week varchar(10) not null,
+    text varchar(300) not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE daily_data
+(
+    id bigint not null auto_increment,
+    date date not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    wig_id bigint not null,
+    day_of_week varchar(10),
+    week varchar(10) not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE daily_lead_data
+(
+    id bigint not null auto_increment,
+    lead_value float(53),
+    daily_data_id bigint not null,
+    lead_measure_id bigint not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE lead_measures
+(
+    id bigint not null auto_increment,
+    daily_target float(53) not null,
+    weekly_target float(53) not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    wig_id bigint not null,
+    unit varchar(20) not null,
+    name varchar(100) not null,
+    goal_direction enum ('MAXIMIZE','MINIMIZE') not null,
+    lead_measure_type enum ('BOOLEAN','NUMERIC') not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE milestones
+(
+    id bigint not null auto_increment,
+    completed bit not null,
+    order_index integer not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    wig_id bigint not null,
+    name varchar(200) not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE users
+(
+    id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    name varchar(50) not null,
+    email varchar(100) not null,
+    password varchar(255),
+    profile_image_url varchar(255),
+    provider_id varchar(255),
+    provider enum ('GOOGLE','KAKAO','LOCAL','NAVER') not null,
+    role enum ('ADMIN','USER') not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE weekly_data
+(
+    id bigint not null auto_increment,
+    actual float(53),
+    milestone_progress float(53),
+    target float(53),
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    wig_id bigint not null,
+    week varchar(10) not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE weekly_lead_data
+(
+    id bigint not null auto_increment,
+    lead_value float(53),
+    lead_measure_id bigint not null,
+    weekly_data_id bigint not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE wigs
+(
+    id bigint not null auto_increment,
+    by_when date not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    user_id bigint not null,
+    unit varchar(20),
+    fromx varchar(100) not null,
+    toy varchar(100) not null,
+    title varchar(200) not null,
+    measure_type enum ('NUMERIC','STATE') not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+-- unique 제약
+ALTER TABLE daily_data ADD CONSTRAINT UK122v34mqwdmrw77k1xntin728 UNIQUE (wig_id, date);
+ALTER TABLE daily_lead_data ADD CONSTRAINT UKodw00xit9ie9wc5ceq7c1g1q3 UNIQUE (daily_data_id, lead_measure_id);
+ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
+ALTER TABLE weekly_data ADD CONSTRAINT UKb35p616ccbcbrxpw0maga13u4 UNIQUE (wig_id, week);
+ALTER TABLE weekly_lead_data ADD CONSTRAINT UKge3g20ijajgbaj24kgdl6bn25 UNIQUE (weekly_data_id, lead_measure_id);
+
+-- 외래 키
+ALTER TABLE commitments ADD CONSTRAINT FKl95ncujas8k6sd7ksopbrmdlb FOREIGN KEY (wig_id) REFERENCES wigs (id);
+ALTER TABLE daily_data ADD CONSTRAINT FKhohaqk42k97ktesctue6cey39 FOREIGN KEY (wig_id) REFERENCES wigs (id);
+ALTER TABLE daily_lead_data ADD CONSTRAINT FKlp9c2t14qsrmkwbigg1o1u3rx FOREIGN KEY (daily_data_id) REFERENCES daily_data (id);
+ALTER TABLE daily_lead_data ADD CONSTRAINT FK4qdfi4g1sfrokhm0gxr2yq7r9 FOREIGN KEY (lead_measure_id) REFERENCES lead_measures (id);
+ALTER TABLE lead_measures ADD CONSTRAINT FK2c7jq0asunoql1le8mbcn8wht FOREIGN KEY (wig_id) REFERENCES wigs (id);
+ALTER TABLE milestones ADD CONSTRAINT FKahgd6lma8iu40a39ilnurt82 FOREIGN KEY (wig_id) REFERENCES wigs (id);
+ALTER TABLE weekly_data ADD CONSTRAINT FKgublqahfxeno5r5vkhof4kw9r FOREIGN KEY (wig_id) REFERENCES wigs (id);
+ALTER TABLE weekly_lead_data ADD CONSTRAINT FKcajuuxky9hre4of4s0lu3lqvj FOREIGN KEY (lead_measure_id) REFERENCES lead_measures (id);
+ALTER TABLE weekly_lead_data ADD CONSTRAINT FKjxw2ou0gj97xsfbkogm5tp4p4 FOREIGN KEY (weekly_data_id) REFERENCES weekly_data (id);
+ALTER TABLE wigs ADD CONSTRAINT FKmfiy3cfm3177ri4nkq5e4himt FOREIGN KEY (user_id) REFERENCES users (id);
@@ -0,0 +1,20 @@
+-- 주차 정렬/범위 조회용 숫자 ISO 주차 키 (주 기준 연도 * 100 + 주차, IsoWeek.keyOf와 같은 값)
+-- 'W1', 'W10' 같은 주차 라벨은 문자열 정렬이라 시간 순서가 아님
+
+-- 일간 데이터: 날짜에서 바로 계산 (YEARWEEK mode 3 = ISO 8601 주차)
+ALTER TABLE daily_data ADD COLUMN week_key int;
+UPDATE daily_data SET week_key = YEARWEEK(date, 3);
+ALTER TABLE daily_data MODIFY week_key int not null;
+
+-- 주간 데이터 / Commitment: 날짜가 없으므로 같은 WIG, 같은 주차 라벨의 일간 데이터에서 가져옴 (없으면 NULL)
+ALTER TABLE weekly_data ADD COLUMN week_key int;
+UPDATE weekly_data w SET week_key =
+    (SELECT MIN(d.week_key) FROM daily_data d WHERE d.wig_id = w.wig_id AND d.week = w.week);
+
+ALTER TABLE commitments ADD COLUMN week_key int;
+UPDATE commitments c SET week_key =
+    (SELECT MIN(d.week_key) FROM daily_data d WHERE d.wig_id = c.wig_id AND d.week = c.week);
+
+-- WeeklyDataRepository.findRowsByWigId(AndWeekKeyBetween), CommitmentRepository.findByWigIdOrderByWeekKeyAscIdAsc 등
+CREATE INDEX idx_weekly_data_wig_week_key ON weekly_data (wig_id, week_key);
+CREATE INDEX idx_commitments_wig_week_key ON commitments (wig_id, week_key);
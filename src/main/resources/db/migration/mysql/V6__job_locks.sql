@@ -0,0 +1,10 @@
+-- 여러 서버에서 같이 도는 @Scheduled 작업을 한 번에 한 서버만 실행하기 위한 락 (JobLock)
+CREATE TABLE job_locks
+(
+    name varchar(64) not null,
+    locked_until datetime(6) not null,
+    locked_by varchar(255) not null,
+    primary key (name)
+) ENGINE = InnoDB;
+
+INSERT INTO job_locks (name, locked_until, locked_by) VALUES ('deletion-purger', '2000-01-01 00:00:00', '');
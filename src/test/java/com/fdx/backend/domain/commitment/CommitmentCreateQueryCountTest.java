@@ -0,0 +1,98 @@
+package com.fdx.backend.domain.commitment;
+
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
+import com.fdx.backend.dto.CommitmentRequest;
+import com.fdx.backend.security.TestAuthentication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Commitment 생성 쿼리 수 테스트
+ * WIG에 Commitment가 아무리 많아도 생성은 FK만 연결해서 INSERT (기존 Commitments 컬렉션을 읽지 않음)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CommitmentCreateQueryCountTest {
+
+    private static final Long WIG_ID = 1L;
+    private static final Long OWNER_ID = 1L;
+    private static final int MANY_COMMITMENTS = 10_000;
+
+    @Autowired
+    private CommitmentService commitmentService;
+
+    @Autowired
+    private WigOwnershipIndex wigOwnershipIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        TestAuthentication.loginAsOwner(wigOwnershipIndex, OWNER_ID, WIG_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestAuthentication.logout();
+    }
+
+    @Test
+    void Commitment_생성_쿼리_수는_기존_Commitment_수와_무관하다() {
+        long few = countStatements(() -> commitmentService.createCommitment(request("첫 번째 약속")));
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < MANY_COMMITMENTS; i++) {
+            rows.add(new Object[]{"commitment " + i, "W99", false, WIG_ID});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO commitments (text, week, completed, wig_id, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+
+        Statistics statistics = statistics();
+        long many = countStatements(() -> commitmentService.createCommitment(request("만 번째 이후 약속")));
+
+        assertThat(many).isEqualTo(few);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private CommitmentRequest request(String text) {
+        return CommitmentRequest.builder()
+                .text(text)
+                .week("W99")
+                .wigId(WIG_ID)
+                .build();
+    }
+
+    private long countStatements(Runnable command) {
+        Statistics statistics = statistics();
+        entityManager.clear();
+        statistics.clear();
+        command.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,137 @@
+package com.fdx.backend.domain.dailydata;
+
+import com.fdx.backend.domain.leadmeasure.LeadMeasure;
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.wig.Wig;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
+import com.fdx.backend.domain.wig.WigRepository;
+import com.fdx.backend.security.TestAuthentication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일간 데이터 목록 조회 쿼리 수 테스트
+ * 일수가 늘어나도 실행되는 SQL 수가 일정해야 함 (leadValues N+1 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class DailyDataQueryCountTest {
+
+    private static final Long WIG_ID = 1L;
+    private static final Long OWNER_ID = 1L;
+
+    @Autowired
+    private DailyDataService dailyDataService;
+
+    @Autowired
+    private WigRepository wigRepository;
+
+    @Autowired
+    private LeadMeasureRepository leadMeasureRepository;
+
+    @Autowired
+    private WigOwnershipIndex wigOwnershipIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        TestAuthentication.loginAsOwner(wigOwnershipIndex, OWNER_ID, WIG_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestAuthentication.logout();
+    }
+
+    @Test
+    void 일간_데이터_목록_조회_쿼리_수는_일수와_무관하다() {
+        LocalDate start = LocalDate.of(2030, 1, 1);
+
+        addDays(start, 5);
+        long fewDays = countStatements(() -> dailyDataService.getDailyDataByWigId(WIG_ID, null, 100));
+
+        addDays(start.plusDays(5), 50);
+        long manyDays = countStatements(() -> dailyDataService.getDailyDataByWigId(WIG_ID, null, 100));
+
+        assertThat(manyDays).isEqualTo(fewDays);
+    }
+
+    @Test
+    void 날짜_범위_조회_쿼리_수는_일수와_무관하다() {
+        LocalDate start = LocalDate.of(2030, 1, 1);
+        addDays(start, 60);
+
+        long week = countStatements(() ->
+                dailyDataService.getDailyDataByDateRange(WIG_ID, start, start.plusDays(6), null, 100));
+        long twoMonths = countStatements(() ->
+                dailyDataService.getDailyDataByDateRange(WIG_ID, start, start.plusDays(59), null, 100));
+
+        assertThat(twoMonths).isEqualTo(week);
+    }
+
+    @Test
+    void 주차별_조회_쿼리_수는_일수와_무관하다() {
+        addDays(LocalDate.of(2030, 1, 1), 3, "W99");
+        long fewDays = countStatements(() -> dailyDataService.getDailyDataByWigIdAndWeek(WIG_ID, "W99"));
+
+        addDays(LocalDate.of(2030, 2, 1), 30, "W99");
+        long manyDays = countStatements(() -> dailyDataService.getDailyDataByWigIdAndWeek(WIG_ID, "W99"));
+
+        assertThat(manyDays).isEqualTo(fewDays);
+    }
+
+    private void addDays(LocalDate start, int days) {
+        addDays(start, days, "W1");
+    }
+
+    private void addDays(LocalDate start, int days, String week) {
+        Wig wig = wigRepository.findById(WIG_ID).orElseThrow();
+        List<LeadMeasure> leadMeasures = leadMeasureRepository.findByWigId(WIG_ID);
+
+        for (int i = 0; i < days; i++) {
+            LocalDate date = start.plusDays(i);
+            DailyData dailyData = DailyData.builder()
+                    .date(date)
+                    .week(week)
+                    .dayOfWeek(date.getDayOfWeek().name())
+                    .wig(wig)
+                    .build();
+            for (LeadMeasure lm : leadMeasures) {
+                dailyData.getLeadValues().add(DailyLeadData.builder()
+                        .dailyData(dailyData)
+                        .leadMeasure(lm)
+                        .value(1.0)
+                        .build());
+            }
+            entityManager.persist(dailyData);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(Runnable query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,83 @@
+package com.fdx.backend.domain.dailydata;
+
+import com.fdx.backend.domain.leadmeasure.LeadMeasureRepository;
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
+import com.fdx.backend.dto.LeadValuePatchRequest;
+import com.fdx.backend.dto.LeadValueResponse;
+import com.fdx.backend.security.TestAuthentication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리드매셔 실적 하나 저장(PATCH) 쿼리 수 테스트
+ * 상위 daily_data 문장 1번 + daily_lead_data 문장 1번만 실행되어야 함 (다시 읽기, streak 갱신 없음)
+ */
+@SpringBootTest
+@Import(JdbcStatementCounter.class)
+@Transactional
+class LeadValuePatchStatementCountTest {
+
+    private static final Long WIG_ID = 1L;
+    private static final Long OWNER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now().minusDays(3);
+
+    @Autowired
+    private DailyDataService dailyDataService;
+
+    @Autowired
+    private LeadMeasureRepository leadMeasureRepository;
+
+    @Autowired
+    private WigOwnershipIndex wigOwnershipIndex;
+
+    @Autowired
+    private JdbcStatementCounter statementCounter;
+
+    private Long leadMeasureId;
+
+    @BeforeEach
+    void setUp() {
+        TestAuthentication.loginAsOwner(wigOwnershipIndex, OWNER_ID, WIG_ID);
+        leadMeasureId = leadMeasureRepository.findByWigId(WIG_ID).get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestAuthentication.logout();
+    }
+
+    @Test
+    void 리드매셔_실적_저장은_문장_2개로_끝난다() {
+        LeadValueResponse[] response = new LeadValueResponse[1];
+
+        // 새 날짜: 일간 데이터 생성 + 실적 저장
+        long created = countStatements(() -> response[0] = dailyDataService.patchLeadValue(WIG_ID, DATE,
+                leadMeasureId, LeadValuePatchRequest.builder().value(3.0).week("W1").dayOfWeek("MONDAY").build()));
+        // 기존 날짜: updated_at 갱신 + 실적 저장
+        long updated = countStatements(() -> dailyDataService.patchLeadValue(WIG_ID, DATE,
+                leadMeasureId, LeadValuePatchRequest.builder().value(5.0).build()));
+
+        assertThat(created).isEqualTo(2);
+        assertThat(updated).isEqualTo(2);
+        assertThat(response[0].getValue()).isEqualTo(3.0);
+        assertThat(dailyDataService.getDailyDataByDateRange(WIG_ID, DATE, DATE, null, null).getContent())
+                .singleElement()
+                .satisfies(day -> assertThat(day.getLeadValues()).containsEntry(leadMeasureId, 5.0));
+    }
+
+    private long countStatements(Supplier<?> command) {
+        statementCounter.clear();
+        command.get();
+        return statementCounter.count();
+    }
+}
@@ -0,0 +1,116 @@
+package com.fdx.backend.domain.dashboard;
+
+import com.fdx.backend.domain.IsoWeek;
+import com.fdx.backend.domain.streak.StreakProjectionUpdater;
+import com.fdx.backend.dto.DashboardResponse;
+import com.fdx.backend.security.TestAuthentication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+
+/**
+ * 대시보드 쿼리 수 테스트
+ * 전체 응답의 SQL 수가 1 + QUERIES_PER_WIG × WIG 수 이하이고, 데이터 양과 무관해야 함
+ * streak 프로젝션이 없는 첫 조회도 같은 예산 안이어야 함
+ *
+ * 병렬 조회는 각자 커넥션을 쓰므로 테스트 트랜잭션 대신 커밋된 데이터를 넣고 지움
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DashboardQueryBudgetTest {
+
+    private static final Long USER_ID = 1L; // data.sql: WIG 1, 2의 소유자
+    private static final Long WIG_ID = 1L;
+    private static final String WEEK = "W99";
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @MockitoSpyBean
+    private StreakProjectionUpdater streakProjectionUpdater;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        doNothing().when(streakProjectionUpdater).requestRebuild(any()); // 백그라운드 재계산 SQL이 섞이지 않도록
+        TestAuthentication.loginAs(USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM daily_data WHERE wig_id = ? AND date BETWEEN ? AND ?",
+                WIG_ID, Date.valueOf(MONDAY), Date.valueOf(MONDAY.plusDays(6)));
+        jdbcTemplate.update("DELETE FROM commitments WHERE wig_id = ? AND week = ?", WIG_ID, WEEK);
+        TestAuthentication.logout();
+    }
+
+    @Test
+    void 대시보드_쿼리_수는_WIG_수에_비례하고_데이터_양과_무관하다() {
+        // streak 프로젝션이 없는 상태 (첫 조회, 무효화 직후)
+        jdbcTemplate.update("DELETE FROM streak_states WHERE wig_id IN (1, 2)");
+        DashboardResponse[] cold = new DashboardResponse[1];
+        long coldCount = countStatements(() -> cold[0] = dashboardService.getDashboard(WEEK, MONDAY));
+
+        List.of(1L, 2L).forEach(streakProjectionUpdater::rebuild); // streak 프로젝션 준비
+        long empty = countStatements(() -> dashboardService.getDashboard(WEEK, MONDAY));
+
+        for (int i = 0; i < 7; i++) {
+            LocalDate date = MONDAY.plusDays(i);
+            jdbcTemplate.update("INSERT INTO daily_data (date, week, week_key, day_of_week, wig_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    Date.valueOf(date), WEEK, IsoWeek.keyOf(date), date.getDayOfWeek().name(), WIG_ID);
+        }
+        for (int i = 0; i < 20; i++) {
+            jdbcTemplate.update("INSERT INTO commitments (text, week, completed, wig_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    "commitment " + i, WEEK, i % 2 == 0, WIG_ID);
+        }
+
+        DashboardResponse[] response = new DashboardResponse[1];
+        long full = countStatements(() -> response[0] = dashboardService.getDashboard(WEEK, MONDAY));
+
+        int wigCount = response[0].getWigs().size();
+        assertThat(wigCount).isEqualTo(2);
+        assertThat(coldCount).isLessThanOrEqualTo(1 + (long) DashboardService.QUERIES_PER_WIG * wigCount);
+        assertThat(cold[0].getWigs()).allSatisfy(w -> assertThat(w.getStreak()).isNull());
+        assertThat(full).isEqualTo(empty);
+        assertThat(full).isLessThanOrEqualTo(1 + (long) DashboardService.QUERIES_PER_WIG * wigCount);
+
+        DashboardResponse.WigDashboard wig = response[0].getWigs().stream()
+                .filter(w -> w.getWig().getId().equals(WIG_ID))
+                .findFirst()
+                .orElseThrow();
+        assertThat(wig.getDailyData()).hasSize(7);
+        assertThat(wig.getCommitments()).hasSize(20);
+        assertThat(wig.getCommitmentRate().get("completionRate")).isEqualTo(50.0);
+        assertThat(wig.getStreak()).isNotNull();
+    }
+
+    private long countStatements(Supplier<?> query) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        query.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,101 @@
+package com.fdx.backend.domain.streak;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 달성 비트셋 인덱스 테스트 (현재/최장 streak, 달력 구간 조회)
+ */
+class AchievementIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+    private static final Long LEAD_MEASURE_ID = 7L;
+
+    @Test
+    void 현재_streak는_오늘_미달성이면_어제부터_센다() {
+        AchievementIndex index = index(3, 4, 5, 8, 9);
+
+        assertThat(index.currentStreak(null, day(9))).isEqualTo(2);
+        assertThat(index.currentStreak(null, day(10))).isEqualTo(2); // 오늘은 아직 기록 전
+        assertThat(index.currentStreak(null, day(11))).isZero();
+        assertThat(index.currentStreak(null, day(5))).isEqualTo(3);
+        assertThat(index.currentStreak(null, BASE.minusDays(1))).isZero(); // WIG 생성 전
+    }
+
+    @Test
+    void 현재_streak는_미래_달성일을_세지_않는다() {
+        AchievementIndex index = index(3, 4, 5, 6, 7);
+
+        assertThat(index.currentStreak(null, day(5))).isEqualTo(3);
+    }
+
+    @Test
+    void 최장_streak는_가장_긴_구간이다() {
+        AchievementIndex index = index(0, 1, 2, 5, 6, 7, 8, 20);
+
+        assertThat(index.longestStreak(null)).isEqualTo(4);
+        assertThat(new AchievementIndex(BASE, List.of()).longestStreak(null)).isZero();
+    }
+
+    @Test
+    void 미달성으로_바꾸면_구간이_나뉜다() {
+        AchievementIndex index = index(0, 1, 2, 3, 4);
+
+        index.set(null, day(2), false);
+
+        assertThat(index.longestStreak(null)).isEqualTo(2);
+        assertThat(index.latestRun(null)).containsExactly(day(3), day(4));
+    }
+
+    @Test
+    void 달력_구간은_기간_안의_달성일만_센다() {
+        AchievementIndex index = index(0, 2, 3, 9, 31);
+
+        assertThat(index.countAchieved(null, day(2), day(9))).isEqualTo(3);
+        assertThat(index.achievedDates(null, day(1), day(30))).containsExactly(day(2), day(3), day(9));
+        assertThat(index.achievedDates(null, BASE.minusDays(10), day(0))).containsExactly(day(0));
+        assertThat(index.countAchieved(null, day(40), day(50))).isZero();
+        assertThat(index.achievedDates(null, day(9), day(2))).isEmpty(); // 뒤집힌 기간
+    }
+
+    @Test
+    void 생성일_이전과_기록_범위_이후는_무시한다() {
+        AchievementIndex index = index();
+
+        index.set(null, BASE.minusDays(1), true);
+        index.set(null, day(AchievementIndex.MAX_DAYS), true);
+
+        assertThat(index.latestRun(null)).isNull();
+        assertThat(index.longestStreak(null)).isZero();
+    }
+
+    @Test
+    void 리드매셔별_비트셋은_서로_독립이다() {
+        AchievementIndex index = new AchievementIndex(BASE, List.of(LEAD_MEASURE_ID));
+
+        assertThat(index.set(LEAD_MEASURE_ID, day(1), true)).isTrue();
+        assertThat(index.set(99L, day(1), true)).isFalse(); // 모르는 key → 다시 만들어야 함
+
+        assertThat(index.longestStreak(LEAD_MEASURE_ID)).isEqualTo(1);
+        assertThat(index.longestStreak(null)).isZero();
+        assertThat(index.covers(BASE, List.of(LEAD_MEASURE_ID))).isTrue();
+        assertThat(index.covers(BASE, List.of(LEAD_MEASURE_ID, 99L))).isFalse();
+        assertThat(index.covers(BASE.plusDays(1), List.of(LEAD_MEASURE_ID))).isFalse();
+    }
+
+    private static AchievementIndex index(int... achievedDays) {
+        AchievementIndex index = new AchievementIndex(BASE, List.of());
+        for (int offset : achievedDays) {
+            index.set(null, day(offset), true);
+        }
+        return index;
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
@@ -0,0 +1,138 @@
+package com.fdx.backend.domain.streak;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 연속달성 구간 증분 갱신 테스트
+ * 증분 결과는 항상 전체 이력(달성 인덱스)으로 다시 계산한 값과 같아야 함
+ */
+class StreakRunTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    @Test
+    void 구간_다음날_달성은_구간을_늘린다() {
+        StreakRun run = run(3, 5);
+
+        StreakRun next = run.advance(day(6), true);
+
+        assertThat(next).isEqualTo(run(3, 6));
+        assertThat(run.longestAfter(next, day(6), 3)).isEqualTo(4);
+    }
+
+    @Test
+    void 구간과_떨어진_이후_날짜_달성은_새_구간을_만든다() {
+        StreakRun run = run(3, 5);
+
+        StreakRun next = run.advance(day(10), true);
+
+        assertThat(next).isEqualTo(run(10, 10));
+        assertThat(run.longestAfter(next, day(10), 3)).isEqualTo(3); // 이전 최장 유지
+    }
+
+    @Test
+    void 첫_달성은_길이_1_구간이다() {
+        StreakRun next = StreakRun.EMPTY.advance(day(4), true);
+
+        assertThat(next).isEqualTo(run(4, 4));
+        assertThat(StreakRun.EMPTY.longestAfter(next, day(4), 0)).isEqualTo(1);
+    }
+
+    @Test
+    void 구간_밖_미달성과_구간_안_달성은_그대로다() {
+        StreakRun run = run(3, 5);
+
+        assertThat(run.advance(day(8), false)).isSameAs(run);
+        assertThat(run.advance(day(6), false)).isSameAs(run);
+        assertThat(run.advance(day(4), true)).isSameAs(run);
+        assertThat(run.advance(day(1), false)).isSameAs(run); // 이전 구간 쪽 변경은 최근 구간과 무관
+    }
+
+    @Test
+    void 구간_안_미달성은_구간을_자른다() {
+        StreakRun run = run(3, 7);
+
+        assertThat(run.advance(day(5), false)).isEqualTo(run(6, 7)); // 가운데 → 뒤쪽이 최근 구간
+        assertThat(run.advance(day(3), false)).isEqualTo(run(4, 7));
+        assertThat(run.advance(day(7), false)).isEqualTo(run(3, 6)); // 마지막 날 → 앞쪽이 최근 구간
+    }
+
+    @Test
+    void 이력을_알아야_하면_재계산을_요청한다() {
+        StreakRun single = run(5, 5);
+        StreakRun run = run(3, 7);
+
+        assertThat(single.advance(day(5), false)).isNull(); // 구간이 사라지면 이전 구간은 이력에 있음
+        assertThat(run.advance(day(2), true)).isNull(); // 이전 구간과 이어질 수 있음
+        assertThat(run.longestAfter(run, day(1), 5)).isEqualTo(-1); // 이전 구간 길이가 바뀔 수 있음
+    }
+
+    @Test
+    void 최근_구간이_줄면_다른_구간이_최장일_때만_증분_갱신한다() {
+        StreakRun run = run(3, 7);
+        StreakRun next = run.advance(day(7), false);
+
+        assertThat(run.longestAfter(next, day(7), 9)).isEqualTo(9); // 최장은 이전 구간
+        assertThat(run.longestAfter(next, day(7), 5)).isEqualTo(-1); // 줄어든 구간이 최장이었음
+    }
+
+    @Test
+    void 현재_streak는_오늘_또는_어제까지_이어진_구간만_센다() {
+        LocalDate today = day(10);
+
+        assertThat(run(6, 10).currentStreak(today)).isEqualTo(5);
+        assertThat(run(6, 9).currentStreak(today)).isEqualTo(4);
+        assertThat(run(6, 8).currentStreak(today)).isZero();
+        assertThat(run(8, 12).currentStreak(today)).isEqualTo(3); // 미래 날짜는 세지 않음
+        assertThat(StreakRun.EMPTY.currentStreak(today)).isZero();
+    }
+
+    @Test
+    void 무작위_쓰기_순서에서도_증분_결과가_재계산과_같다() {
+        Random random = new Random(42);
+        LocalDate today = day(40);
+
+        for (int round = 0; round < 200; round++) {
+            AchievementIndex index = new AchievementIndex(BASE, List.of());
+            StreakRun run = StreakRun.EMPTY;
+            int longest = 0;
+
+            for (int write = 0; write < 150; write++) {
+                // 과거/오늘/미래 날짜를 순서 없이 쓰고 같은 날짜도 여러 번 바꿈
+                LocalDate date = day(random.nextInt(60));
+                boolean achieved = random.nextInt(3) > 0;
+                index.set(null, date, achieved);
+
+                StreakRun next = run.advance(date, achieved);
+                int nextLongest = next != null ? run.longestAfter(next, date, longest) : -1;
+                if (nextLongest < 0) {
+                    // StreakProjectionUpdater.rebuild()와 같은 재계산
+                    next = StreakRun.of(index.latestRun(null));
+                    nextLongest = index.longestStreak(null);
+                }
+                run = next;
+                longest = nextLongest;
+
+                assertThat(run).isEqualTo(StreakRun.of(index.latestRun(null)));
+                assertThat(longest).isEqualTo(index.longestStreak(null));
+                if (run.start() == null || !run.start().isAfter(today)) { // 미래 구간이면 StreakService가 인덱스로 계산
+                    assertThat(run.currentStreak(today)).isEqualTo(index.currentStreak(null, today));
+                }
+            }
+        }
+    }
+
+    private static StreakRun run(int startDay, int endDay) {
+        return new StreakRun(day(startDay), day(endDay));
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fdx.backend.domain.wig;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * long → long 오픈 어드레싱 해시맵 테스트
+ * remove의 backward shift 후에도 남은 키가 모두 조회되어야 함 (tombstone 없이 탐색 체인 유지)
+ */
+class LongLongHashMapTest {
+
+    @Test
+    void 넣은_값을_조회하고_덮어쓴다() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        map.put(1L, 10L);
+        map.put(1L, 11L);
+        map.put(2L, 20L);
+
+        assertThat(map.get(1L)).isEqualTo(11L);
+        assertThat(map.get(2L)).isEqualTo(20L);
+        assertThat(map.get(3L)).isEqualTo(LongLongHashMap.NO_VALUE);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 양수가_아닌_key는_거부한다() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        assertThatThrownBy(() -> map.put(0L, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.put(-5L, 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 삭제_후에도_충돌로_밀려난_키를_찾는다() {
+        LongLongHashMap map = new LongLongHashMap();
+        for (long key = 1; key <= 32; key++) { // 64칸에 32개 → 충돌 체인이 생김
+            map.put(key, key * 100);
+        }
+
+        for (long key = 1; key <= 32; key += 2) {
+            map.remove(key);
+        }
+        map.remove(1000L); // 없는 key
+
+        for (long key = 1; key <= 32; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? key * 100 : LongLongHashMap.NO_VALUE);
+        }
+        assertThat(map.size()).isEqualTo(16);
+    }
+
+    @Test
+    void 무작위_넣기_삭제가_HashMap과_같다() {
+        Random random = new Random(7);
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+
+        for (int op = 0; op < 200_000; op++) {
+            long key = 1 + random.nextInt(2_000); // 좁은 범위 → 같은 key의 재삽입/삭제가 잦음
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, op);
+                expected.put(key, (long) op);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, LongLongHashMap.NO_VALUE));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.fdx.backend.security;
+
+import com.fdx.backend.domain.wig.WigOwnershipIndex;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+/**
+ * 테스트용 로그인 상태 (JwtAuthenticationFilter가 만드는 것과 같은 인증 객체를 SecurityContext에 넣음)
+ */
+public final class TestAuthentication {
+
+    private TestAuthentication() {
+    }
+
+    /**
+     * 일반 사용자로 로그인
+     */
+    public static void loginAs(Long userId) {
+        JwtPrincipal principal = new JwtPrincipal(userId, "test@example.com", "USER");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, "", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    /**
+     * WIG 소유자로 로그인하고 소유자 인덱스를 미리 채움 (쿼리 수 측정 대상에서 제외)
+     */
+    public static void loginAsOwner(WigOwnershipIndex wigOwnershipIndex, Long userId, Long wigId) {
+        loginAs(userId);
+        wigOwnershipIndex.ownerOf(wigId);
+    }
+
+    public static void logout() {
+        SecurityContextHolder.clearContext();
+    }
+}